@@ -0,0 +1,76 @@
+	/***********************************************************	*
+	* Benchmarks of spawning: creating a human, a wave of humans,
+	* and a whole world (its first humans plus a crowd of count
+	* humans). Run with -prof gc to see what each one allocates.
+	* Only newWorld is run once per count.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-18 15:30
+	***********************************************************/
+
+package game;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dcupid.log=off")
+public class SpawnBenchmark {
+	private GameRandom random;
+	private GameWorld world;
+	private long seed;
+	
+	
+	@Setup
+	public void setUp() {
+		this.random = new GameRandom(1);
+		this.world = new GameWorld(GameWorld.DEFAULT_TICK_RATE, 0, 1);
+	}
+	
+	
+	@Benchmark
+	public Human newHuman() {
+		return new Human(600, 200, Human.NORMAL, this.random);
+	}
+	
+	
+	//the wave is removed again, so the list of humans does not grow from one operation to the next
+	@Benchmark
+	public void addHumans() {
+		ArrayList<Human> humans = this.world.getHumans();
+		int size = humans.size();
+		
+		this.world.addHumans();
+		humans.subList(size, humans.size()).clear();
+	}
+	
+	
+	@Benchmark
+	public GameWorld newWorld(Crowd crowd) {
+		return new GameWorld(GameWorld.DEFAULT_TICK_RATE, crowd.count, this.seed++);
+	}
+	
+	
+	//size of the crowd of newWorld (a state of its own, so the other benchmarks are not run once per count)
+	@State(Scope.Thread)
+	public static class Crowd {
+		@Param({"10", "100", "1000", "10000"})
+		public int count;
+	}
+}
@@ -0,0 +1,59 @@
+	/***********************************************************	*
+	* Benchmarks of the collision check of two sprites.
+	*
+	* Run with -prof gc: the allocation rate (gc.alloc.rate.norm)
+	* of both checks should be 0 bytes per operation, since the
+	* check only compares the int and double fields of the sprites.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-18 15:30
+	***********************************************************/
+
+package game;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dcupid.log=off")
+public class SpriteBenchmark {
+	private Arrow arrow;
+	private Human near;							//human the arrow hits
+	private Human far;							//human the arrow misses
+	
+	
+	@Setup
+	public void setUp() {
+		GameRandom random = new GameRandom(1);
+		
+		this.arrow = new Arrow(400, 200, 100);
+		this.near = new Human(420, 180, Human.NORMAL, random);
+		this.far = new Human(600, 400, Human.NORMAL, random);
+	}
+	
+	
+	@Benchmark
+	public boolean collidesWithHit() {
+		return this.arrow.collidesWith(this.near);
+	}
+	
+	
+	@Benchmark
+	public boolean collidesWithMiss() {
+		return this.arrow.collidesWith(this.far);
+	}
+}
@@ -0,0 +1,134 @@
+	/***********************************************************	*
+	* Benchmarks of the steps of a tick of the GameWorld, each on
+	* its own, with count humans in the world.
+	*
+	* layout "objects" puts the humans in the list of Human
+	* objects (like a normal game), layout "arrays" puts them in
+	* the CrowdStore (the parallel arrays of the stress mode), so
+	* the two layouts can be compared at the same count.
+	*
+	* Arrows come from cupid's ArrowPool, which never holds more
+	* than ArrowPool.MAX_ARROWS arrows, so the arrow benchmarks
+	* always use a full pool (the count is the number of humans
+	* the arrows are checked against). The arrows do no damage, so
+	* no human dies and every operation does the same work.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-18 15:30
+	***********************************************************/
+
+package game;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dcupid.log=off")
+public class WorldBenchmark {
+	@Param({"10", "100", "1000", "10000"})
+	public int count;
+	
+	@Param({"objects", "arrays"})
+	public String layout;
+	
+	private GameWorld world;
+	private ArrowPool arrows;
+	
+	//Class constants
+	private final static long SEED = 42;
+	
+	
+	@Setup
+	public void setUp() {
+		boolean arrays = this.layout.equals("arrays");
+		
+		this.world = new GameWorld(GameWorld.DEFAULT_TICK_RATE, arrays ? this.count : 0, WorldBenchmark.SEED);
+		this.world.start(0);
+		
+		//the humans spawned by the world are replaced by count humans (or none, when they are in the crowd)
+		ArrayList<Human> humans = this.world.getHumans();
+		humans.clear();
+		
+		if(!arrays) {
+			GameRandom random = new GameRandom(WorldBenchmark.SEED);
+			int rangeX = (GameStage.WINDOW_WIDTH - Human.HUMAN_WIDTH) - GameStage.WINDOW_WIDTH / 2;
+			int rangeY = (GameStage.WINDOW_HEIGHT - Human.HUMAN_HEIGHT) - GameTimer.GAME_STATUS_BAR_HEIGHT;
+			
+			for(int i = 0; i < this.count; i++) {
+				int x = random.nextInt(rangeX + 1) + GameStage.WINDOW_WIDTH / 2;
+				int y = random.nextInt(rangeY + 1) + GameTimer.GAME_STATUS_BAR_HEIGHT;
+				humans.add(new Human(x, y, Human.NORMAL, random));
+			}
+		}
+		
+		//a full pool of arrows spread over the humans, and cupid away from them
+		this.arrows = this.world.getCupid().getArrows();
+		this.fillArrows();
+		this.world.fillGrids();
+	}
+	
+	
+	//method that shoots arrows until the pool is full, spread from the top to the bottom of the window
+	private void fillArrows() {
+		int rangeY = GameStage.WINDOW_HEIGHT - GameTimer.GAME_STATUS_BAR_HEIGHT - Arrow.ARROW_HEIGHT;
+		
+		for(int i = this.arrows.size(); i < ArrowPool.MAX_ARROWS; i++) {
+			int x = GameStage.WINDOW_WIDTH / 2 + (i * 7) % (GameStage.WINDOW_WIDTH / 2 - Arrow.ARROW_WIDTH);
+			int y = GameTimer.GAME_STATUS_BAR_HEIGHT + (i * rangeY) / ArrowPool.MAX_ARROWS;
+			
+			this.arrows.shoot(x, y, 0);
+		}
+	}
+	
+	
+	@Benchmark
+	public void moveHumans() {
+		this.world.moveHumans();
+	}
+	
+	
+	//the arrows that leave the window are shot again, so every operation moves a full pool
+	@Benchmark
+	public void moveArrows() {
+		this.fillArrows();
+		this.world.moveArrows();
+	}
+	
+	
+	@Benchmark
+	public void fillGrids() {
+		this.world.fillGrids();
+	}
+	
+	
+	//the arrows that hit a human are made visible again, so every operation checks a full pool
+	@Benchmark
+	public void arrowHit() {
+		for(int i = 0; i < this.arrows.size(); i++) {
+			this.arrows.get(i).setVisible(true);
+		}
+		this.world.arrowHit();
+	}
+	
+	
+	@Benchmark
+	public void humanHit() {
+		this.world.humanHit();
+	}
+}
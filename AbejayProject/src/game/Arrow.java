@@ -16,28 +16,30 @@
 
 package game;
 
-import javafx.scene.image.Image;
+import java.nio.ByteBuffer;
 
 class Arrow extends Sprite {
 	private int damage;											//damage that arrow can inflict on colliding human
 	
 	//Class constants	
-	private final static int ARROW_SPEED = 20;					//speed of the arrow
-	private final static int ARROW_WIDTH = 50;					//width of the arrow image
-	
-	final static Image ARROW_IMAGE = new Image("images/arrow.png",Arrow.ARROW_WIDTH,Arrow.ARROW_WIDTH,true,true);
+	final static int ARROW_SPEED = 20;							//speed of the arrow
+	final static int ARROW_WIDTH = 50;							//width of the arrow image
+	final static int ARROW_HEIGHT = 17;							//real height of the arrow image (scaled to fit ARROW_WIDTH)
+	private final static int HITBOX_INSET_Y = 3;				//transparent space above and below the arrow head
 	
 	
 	Arrow(int x, int y, int damage){
 		super(x,y);
-		this.loadImage(Arrow.ARROW_IMAGE);
+		this.setSize(Arrow.ARROW_WIDTH, Arrow.ARROW_HEIGHT);
+		this.setHitbox(0, Arrow.HITBOX_INSET_Y);
 		this.damage = damage;
 	}
 
 	
 	//method that will move/change the x position of the bullet 
-	void move(){		
-		this.x += Arrow.ARROW_SPEED;			//increment the x position by BULLET_SPEED
+	//scale is the number of 1/60-second frames the move covers
+	void move(int scale){		
+		this.x += Arrow.ARROW_SPEED*scale;		//increment the x position by BULLET_SPEED
 		
 		//Check if the x position (including the width of the image) has reached the right boundary of the window
 		boolean isBoundary = (this.x + Arrow.ARROW_WIDTH) >= GameStage.WINDOW_WIDTH;
@@ -47,6 +49,29 @@ class Arrow extends Sprite {
 		}
 	}
 	
+	//method that places the arrow at x,y as a newly shot arrow (arrows are reused by the ArrowPool)
+	void reset(int x, int y, int damage) {
+		this.x = x;
+		this.y = y;
+		this.prevX = x;
+		this.prevY = y;
+		this.damage = damage;
+		this.setVisible(true);
+	}
+	
+	//methods that write/read the arrow (its damage too) to/from a keyframe
+	@Override
+	void writeState(ByteBuffer out) {
+		super.writeState(out);
+		out.putInt(this.damage);
+	}
+	
+	@Override
+	void readState(ByteBuffer in) {
+		super.readState(in);
+		this.damage = in.getInt();
+	}
+	
 	//getter
 	int getDamage() {
 		return this.damage;
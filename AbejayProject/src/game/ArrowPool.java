@@ -0,0 +1,91 @@
+	/***********************************************************	*
+	* This class holds the arrows shot by Cupid.
+	*
+	* All the arrows are created once, when the pool is created.
+	* Shooting takes the next unused arrow and resets it, and an
+	* arrow that is no longer visible is given back by swapping it
+	* with the last arrow in use. Shooting and removing arrows
+	* therefore never create objects, even while the autopilot
+	* shoots an arrow every tick.
+	*
+	* An arrow crosses the window in less than a second, so the
+	* pool never needs more than MAX_ARROWS arrows. If it ever runs
+	* out, the shot is skipped.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-17 12:02
+	***********************************************************/
+
+package game;
+
+import java.nio.ByteBuffer;
+
+class ArrowPool {
+	private final Arrow[] arrows;				//arrows in use first, then the unused arrows
+	private int count;							//number of arrows in use
+	
+	//Class constants
+	final static int MAX_ARROWS = 64;			//constant for the most arrows that can be on the screen at once
+	
+	
+	ArrowPool(){
+		this.arrows = new Arrow[ArrowPool.MAX_ARROWS];
+		
+		for(int i = 0; i < ArrowPool.MAX_ARROWS; i++) {
+			this.arrows[i] = new Arrow(0, 0, 0);
+		}
+	}
+	
+	
+	//method that takes an unused arrow and places it at x,y
+	//returns false if all the arrows are in use
+	boolean shoot(int x, int y, int damage) {
+		if(this.count == ArrowPool.MAX_ARROWS) {
+			return false;
+		}
+		
+		this.arrows[this.count++].reset(x, y, damage);
+		return true;
+	}
+	
+	
+	//method that gives back the arrow at the index by swapping it with the last arrow in use
+	//the arrow that was last is now at the index, so a loop that releases arrows should not move to the next index
+	void release(int index) {
+		int last = --this.count;
+		
+		Arrow a = this.arrows[index];
+		this.arrows[index] = this.arrows[last];
+		this.arrows[last] = a;
+	}
+	
+	
+	//method that writes the arrows in use into a keyframe (the unused arrows are reset when they are shot)
+	void writeState(ByteBuffer out) {
+		out.putInt(this.count);
+		
+		for(int i = 0; i < this.count; i++) {
+			this.arrows[i].writeState(out);
+		}
+	}
+	
+	
+	//method that reads back the arrows in use written by writeState
+	void readState(ByteBuffer in) {
+		this.count = in.getInt();
+		
+		for(int i = 0; i < this.count; i++) {
+			this.arrows[i].readState(in);
+		}
+	}
+	
+	
+	//getters
+	int size() {
+		return this.count;
+	}
+	
+	Arrow get(int index) {
+		return this.arrows[index];
+	}
+}
@@ -0,0 +1,312 @@
+	/***********************************************************	*
+	* This class loads the images of the game before the main menu
+	* is shown, and hands them out once they are ready.
+	*
+	* Decoding and scaling a PNG is slow, and the images used to be
+	* decoded one by one on the JavaFX thread, the first time the
+	* class that holds them was used. Now, when the game starts, a
+	* loading screen is shown while every image in PRELOADED is
+	* decoded in parallel by a small pool of background threads.
+	* The images of GameStage are then taken from here, so opening
+	* the menu or starting the first game does not decode anything.
+	*
+	* These images are listed only here, as ImageSpec
+	* constants that add themselves to PRELOADED, and GameStage
+	* takes each of its image constants from one of them with
+	* getPreloaded. So an image cannot be used by GameStage
+	* without being preloaded. (GameStage cannot hold the list
+	* itself, as it builds its sprite atlas from the decoded images
+	* as soon as the class is loaded.)
+	*
+	* An image that cannot be loaded (like a file that is missing)
+	* is reported, and a blank 1x1 image (MISSING) is given in its
+	* place, so the game still starts and that image is just not
+	* drawn. The sprite atlas leaves it out.
+	*
+	* An image is identified by its path, the size it is decoded
+	* at and its smoothing, the same arguments as new Image(...).
+	* An image that was not preloaded (like the images of the how
+	* to play and about pages) is decoded the first time it is
+	* asked for and kept in a cache, so going back and forth
+	* between the pages does not decode it again. The cache holds
+	* at most MAX_CACHED_PIXELS pixels: when it is full, the image
+	* that was used the longest time ago is dropped.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-18 12:20
+	***********************************************************/
+
+package game;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javafx.application.Platform;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Text;
+import javafx.stage.Stage;
+
+public final class AssetManager {
+	private final static ConcurrentHashMap<String, Image> images = new ConcurrentHashMap<String, Image>();		//preloaded images, by key (never dropped)
+	private final static LinkedHashMap<String, Image> cache = new LinkedHashMap<String, Image>(16, 0.75f, true);	//other images, by key, from the least to the most recently used
+	private static long cachedPixels;						//number of pixels of the images in the cache
+	
+	//Class constants
+	private final static int MAX_THREADS = 4;				//constant for the most threads decoding images at once
+	private final static long MAX_CACHED_PIXELS = 1000000;	//constant for the most pixels kept in the cache (4 bytes each, about 4 MB)
+	private final static WritableImage MISSING = new WritableImage(1, 1);	//constant for the (blank) image given instead of an image that could not be loaded
+	
+	//images decoded while the loading screen is shown, before the images below (each one adds itself to it when it is created)
+	private final static ArrayList<ImageSpec> PRELOADED = new ArrayList<ImageSpec>();
+	
+	//The images of GameStage, with the size they are used at (GameStage takes its image constants from these with getPreloaded)
+	
+	//Scene backgrounds
+	final static ImageSpec SPLASH_BG = AssetManager.preloaded("images/splash-bg.png", GameStage.WINDOW_WIDTH, GameStage.WINDOW_HEIGHT, true, true);
+	final static ImageSpec GAME_BG = AssetManager.preloaded("images/gamescene-bg.png", GameStage.WINDOW_WIDTH, GameStage.WINDOW_HEIGHT, true, false);
+	final static ImageSpec WIN_BG = AssetManager.preloaded("images/gameover-win-bg.png", GameStage.WINDOW_WIDTH, GameStage.WINDOW_HEIGHT, true, true);
+	final static ImageSpec LOSE_BG = AssetManager.preloaded("images/gameover-lose-bg.png", GameStage.WINDOW_WIDTH, GameStage.WINDOW_HEIGHT, true, true);
+	final static ImageSpec HOWTO_BG = AssetManager.preloaded("images/howto-bg.png", GameStage.WINDOW_WIDTH, GameStage.WINDOW_HEIGHT, true, true);
+	final static ImageSpec ABOUT_BG = AssetManager.preloaded("images/about-bg.png", GameStage.WINDOW_WIDTH, GameStage.WINDOW_HEIGHT, true, true);
+	
+	//Title cards
+	final static ImageSpec TITLE_CARD = AssetManager.preloaded("images/title-card.png", GameStage.WINDOW_WIDTH*0.95, 200, true, true);
+	final static ImageSpec WIN_CARD = AssetManager.preloaded("images/win-card.png", GameStage.WINDOW_WIDTH*0.85, 200, true, false);
+	final static ImageSpec LOSE_CARD = AssetManager.preloaded("images/lose-card.png", GameStage.WINDOW_WIDTH*0.85, 200, true, false);
+	final static ImageSpec GAMEOVER_WHITE_CARD = AssetManager.preloaded("images/gameover-text-white.png", GameStage.WINDOW_WIDTH*0.95, 200, true, true);
+	final static ImageSpec GAMEOVER_BLACK_CARD = AssetManager.preloaded("images/gameover-text-black.png", GameStage.WINDOW_WIDTH*0.95, 200, true, true);
+	
+	//Icons
+	final static ImageSpec TIMER_ICON = AssetManager.preloaded("images/clock-image.png", 25, 25, true, false);
+	final static ImageSpec FROZEN_TIMER_ICON = AssetManager.preloaded("images/frozen-clock-image.png", 25, 25, true, true);
+	final static ImageSpec SCORE_ICON = AssetManager.preloaded("images/score-image.png", 25, 25, true, true);
+	final static ImageSpec STRENGTH_ICON = AssetManager.preloaded("images/strength-image.png", 25, 25, true, true);
+	final static ImageSpec IMMORTAL_ICON = AssetManager.preloaded("images/immortal-strength-image.png", 25, 25, true, true);
+	
+	//Sprites
+	final static ImageSpec CUPID_IMAGE = AssetManager.preloaded("images/cupid.png", Cupid.CUPID_WIDTH, Cupid.CUPID_WIDTH, true, true);
+	final static ImageSpec GLOWING_CUPID_IMAGE = AssetManager.preloaded("images/glowing-cupid.png", Cupid.CUPID_WIDTH, Cupid.CUPID_WIDTH, true, true);
+	final static ImageSpec ARROW_IMAGE = AssetManager.preloaded("images/arrow.png", Arrow.ARROW_WIDTH, Arrow.ARROW_WIDTH, true, true);
+	final static ImageSpec MALE_HUMAN_IMAGE = AssetManager.preloaded("images/male-human.png", Human.HUMAN_WIDTH, Human.HUMAN_WIDTH, true, true);
+	final static ImageSpec FEMALE_HUMAN_IMAGE = AssetManager.preloaded("images/female-human.png", Human.HUMAN_WIDTH, Human.HUMAN_WIDTH, true, true);
+	final static ImageSpec FEMALE_BOSS = AssetManager.preloaded("images/boss-female.png", 119, Human.BOSS_HUMAN_HEIGHT, true, true);
+	final static ImageSpec MALE_BOSS = AssetManager.preloaded("images/boss-male.png", 102, Human.BOSS_HUMAN_HEIGHT, true, true);
+	
+	//Power-ups
+	final static ImageSpec HEART_IMAGE = AssetManager.preloaded("images/heart.png", PowerUp.POWER_UP_IMAGE_WIDTH, PowerUp.POWER_UP_IMAGE_WIDTH, true, true);
+	final static ImageSpec WINGS_IMAGE = AssetManager.preloaded("images/wings.png", PowerUp.POWER_UP_IMAGE_WIDTH, PowerUp.POWER_UP_IMAGE_WIDTH, true, true);
+	final static ImageSpec BW_WINGS = AssetManager.preloaded("images/bw-wings.png", PowerUp.POWER_UP_IMAGE_WIDTH, PowerUp.POWER_UP_IMAGE_WIDTH, true, true);
+	final static ImageSpec DOLPHIN_IMAGE = AssetManager.preloaded("images/dolphin.png", PowerUp.POWER_UP_IMAGE_WIDTH, PowerUp.POWER_UP_IMAGE_WIDTH, true, true);
+	final static ImageSpec BW_DOLPHIN = AssetManager.preloaded("images/bw-dolphin.png", PowerUp.POWER_UP_IMAGE_WIDTH, PowerUp.POWER_UP_IMAGE_WIDTH, true, true);
+	final static ImageSpec AUTOPILOT_IMAGE = AssetManager.preloaded("images/autopilot.png", PowerUp.POWER_UP_IMAGE_WIDTH, PowerUp.POWER_UP_IMAGE_WIDTH, true, true);
+	final static ImageSpec BW_AUTOPILOT = AssetManager.preloaded("images/bw-autopilot.png", PowerUp.POWER_UP_IMAGE_WIDTH, PowerUp.POWER_UP_IMAGE_WIDTH, true, true);
+	final static ImageSpec SNOWFLAKE_IMAGE = AssetManager.preloaded("images/snowflake.png", PowerUp.POWER_UP_IMAGE_WIDTH, PowerUp.POWER_UP_IMAGE_WIDTH, true, true);
+	final static ImageSpec BW_SNOWFLAKE = AssetManager.preloaded("images/bw-snowflake.png", PowerUp.POWER_UP_IMAGE_WIDTH, PowerUp.POWER_UP_IMAGE_WIDTH, true, true);
+	
+	//Buttons
+	final static ImageSpec NEW_GAME_BUTTON = AssetManager.preloaded("images/new-game-btn.png", GameStage.WINDOW_WIDTH*0.25, 250, true, true);
+	final static ImageSpec HOVERED_NEW_GAME_BUTTON = AssetManager.preloaded("images/hovered-new-game-btn.png", GameStage.WINDOW_WIDTH*0.25, 250, true, true);
+	final static ImageSpec HOW_TO_PLAY_BUTTON = AssetManager.preloaded("images/how-to-play-btn.png", GameStage.WINDOW_WIDTH*0.25, 250, true, true);
+	final static ImageSpec HOVERED_HOW_TO_PLAY_BUTTON = AssetManager.preloaded("images/hovered-how-to-play-btn.png", GameStage.WINDOW_WIDTH*0.25, 250, true, true);
+	final static ImageSpec ABOUT_BUTTON = AssetManager.preloaded("images/about-btn.png", GameStage.WINDOW_WIDTH*0.25, 250, true, true);
+	final static ImageSpec HOVERED_ABOUT_BUTTON = AssetManager.preloaded("images/hovered-about-btn.png", GameStage.WINDOW_WIDTH*0.25, 250, true, true);
+	final static ImageSpec EXIT_BUTTON = AssetManager.preloaded("images/exit-btn.png", GameStage.WINDOW_WIDTH*0.25, 250, true, true);
+	final static ImageSpec HOVERED_EXIT_BUTTON = AssetManager.preloaded("images/hovered-exit-btn.png", GameStage.WINDOW_WIDTH*0.25, 250, true, true);
+	final static ImageSpec MAIN_MENU_BUTTON = AssetManager.preloaded("images/main-menu-btn.png", GameStage.WINDOW_WIDTH*0.25, 250, true, true);
+	final static ImageSpec HOVERED_MAIN_MENU_BUTTON = AssetManager.preloaded("images/hovered-main-menu-btn.png", GameStage.WINDOW_WIDTH*0.25, 250, true, true);
+	final static ImageSpec PAUSE_BUTTON = AssetManager.preloaded("images/pause-btn.png", 25, 25, true, false);
+	final static ImageSpec HOVERED_PAUSE_BUTTON = AssetManager.preloaded("images/hovered-pause-btn.png", 25, 25, true, false);
+	final static ImageSpec PLAY_BUTTON = AssetManager.preloaded("images/play-btn.png", 25, 25, true, false);
+	final static ImageSpec HOVERED_PLAY_BUTTON = AssetManager.preloaded("images/hovered-play-btn.png", 25, 25, true, false);
+	final static ImageSpec HOME_BUTTON = AssetManager.preloaded("images/home-btn.png", 25, 25, true, false);
+	final static ImageSpec HOVERED_HOME_BUTTON = AssetManager.preloaded("images/hovered-home-btn.png", 25, 25, true, false);
+	final static ImageSpec CIRCLE_HOME_BUTTON = AssetManager.preloaded("images/home-btn-2.png", 50, 50, true, true);
+	final static ImageSpec CIRCLE_HOVERED_HOME_BUTTON = AssetManager.preloaded("images/hovered-home-btn-2.png", 50, 50, true, true);
+	
+	
+	private AssetManager(){
+	}
+	
+	
+	//method that shows a loading screen on the stage, decodes all the images in PRELOADED in parallel,
+	//and then calls onLoaded on the JavaFX thread
+	public static void preload(Stage stage, Runnable onLoaded) {
+		ProgressBar bar = new ProgressBar(0);
+		bar.setPrefWidth(GameStage.WINDOW_WIDTH / 2);
+		
+		Text text = new Text("Loading...");
+		text.setFill(Color.WHITE);
+		text.setFont(GameTimer.DEFAULT_FONT);
+		
+		VBox box = new VBox(10, text, bar);
+		box.setAlignment(Pos.CENTER);
+		box.setStyle("-fx-background-color: steelblue;");
+		
+		stage.setTitle("Stup!d Cup¡d");
+		stage.setScene(new Scene(box, GameStage.WINDOW_WIDTH, GameStage.WINDOW_HEIGHT));
+		stage.setResizable(false);
+		stage.show();
+		
+		int threads = Math.max(1, Math.min(AssetManager.MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+		ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+			private final AtomicInteger count = new AtomicInteger();
+			
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, "asset-loader-" + this.count.incrementAndGet());
+				t.setDaemon(true);
+				return t;
+			}
+		});
+		
+		AtomicInteger loaded = new AtomicInteger();
+		int total = AssetManager.PRELOADED.size();
+		
+		for(ImageSpec spec: AssetManager.PRELOADED) {
+			executor.execute(new Runnable() {
+				public void run() {
+					AssetManager.images.putIfAbsent(spec.key(), spec.loadOrMissing());
+					
+					int done = loaded.incrementAndGet();
+					Platform.runLater(new Runnable() {
+						public void run() {
+							bar.setProgress((double) done / total);
+							
+							if(done == total) {
+								onLoaded.run();
+							}
+						}
+					});
+				}
+			});
+		}
+		executor.shutdown();								//the threads end once every image is decoded
+	}
+	
+	
+	//method that returns a preloaded image (MISSING if it could not be loaded)
+	//an image asked for before it was preloaded is reported and decoded now (with -Dcupid.log=debug it throws instead)
+	static Image getPreloaded(ImageSpec spec) {
+		Image img = AssetManager.images.get(spec.key());
+		if(img != null) {
+			return img;
+		}
+		
+		String message = "Image was asked for before it was preloaded: " + spec.path;
+		if(GameLog.DEBUG) {
+			throw new IllegalStateException(message);
+		}
+		System.out.println(message);
+		return AssetManager.get(spec.path, spec.width, spec.height, spec.preserveRatio, spec.smooth);
+	}
+	
+	
+	//method that checks if an image is the one given instead of an image that could not be loaded
+	static boolean isMissing(Image img) {
+		return img == AssetManager.MISSING;
+	}
+	
+	
+	//method that returns an image, decoded with the same arguments as new Image(path, width, height, preserveRatio, smooth)
+	//the image is decoded now if it was not preloaded and is not in the cache (MISSING if it cannot be loaded)
+	static Image get(String path, double width, double height, boolean preserveRatio, boolean smooth) {
+		ImageSpec spec = new ImageSpec(path, width, height, preserveRatio, smooth);
+		String key = spec.key();
+		
+		Image img = AssetManager.images.get(key);
+		if(img != null) {
+			return img;
+		}
+		
+		synchronized(AssetManager.cache) {
+			img = AssetManager.cache.get(key);					//also marks it as the most recently used
+			if(img == null) {
+				img = spec.loadOrMissing();
+				
+				AssetManager.cache.put(key, img);
+				AssetManager.cachedPixels += AssetManager.pixels(img);
+				AssetManager.trimCache();
+			}
+		}
+		return img;
+	}
+	
+	
+	//method that drops the least recently used images until the cache holds at most MAX_CACHED_PIXELS pixels
+	//the most recently used image is always kept, even if it is bigger than that
+	private static void trimCache() {
+		Iterator<Map.Entry<String, Image>> it = AssetManager.cache.entrySet().iterator();
+		
+		while(AssetManager.cachedPixels > AssetManager.MAX_CACHED_PIXELS && AssetManager.cache.size() > 1) {
+			Image img = it.next().getValue();
+			it.remove();
+			AssetManager.cachedPixels -= AssetManager.pixels(img);
+		}
+	}
+	
+	
+	//method that returns the number of pixels of an image
+	private static long pixels(Image img) {
+		return (long) img.getWidth() * (long) img.getHeight();
+	}
+	
+	
+	//method that creates the arguments of an image and adds it to the images decoded while the loading screen is shown
+	private static ImageSpec preloaded(String path, double width, double height, boolean preserveRatio, boolean smooth) {
+		ImageSpec spec = new ImageSpec(path, width, height, preserveRatio, smooth);
+		AssetManager.PRELOADED.add(spec);
+		return spec;
+	}
+	
+	
+	//the arguments an image is decoded with
+	static class ImageSpec {
+		private final String path;
+		private final double width;
+		private final double height;
+		private final boolean preserveRatio;
+		private final boolean smooth;
+		
+		
+		ImageSpec(String path, double width, double height, boolean preserveRatio, boolean smooth){
+			this.path = path;
+			this.width = width;
+			this.height = height;
+			this.preserveRatio = preserveRatio;
+			this.smooth = smooth;
+		}
+		
+		
+		String key() {
+			return this.path + "|" + this.width + "x" + this.height + "|" + this.preserveRatio + "|" + this.smooth;
+		}
+		
+		
+		//method that decodes the image (in the calling thread)
+		//an image that cannot be loaded (like a missing file) is reported and MISSING is returned, so it is drawn as nothing
+		Image loadOrMissing() {
+			try {
+				Image img = new Image(this.path, this.width, this.height, this.preserveRatio, this.smooth, false);
+				if(!img.isError()) {
+					return img;
+				}
+				System.out.println("Could not load " + this.path + ": " + img.getException());
+			}catch(RuntimeException e) {
+				System.out.println("Could not load " + this.path + ": " + e.getMessage());	//the file does not exist
+			}
+			return AssetManager.MISSING;
+		}
+	}
+}
@@ -0,0 +1,48 @@
+	/***********************************************************	*
+	* This class is a handle to one image packed in a SpriteAtlas:
+	* the atlas and the rectangle of the atlas the image is in.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-17 16:20
+	***********************************************************/
+
+package game;
+
+class AtlasRegion {
+	private final SpriteAtlas atlas;
+	private final int x;
+	private final int y;
+	private final int width;
+	private final int height;
+	
+	
+	AtlasRegion(SpriteAtlas atlas, int x, int y, int width, int height){
+		this.atlas = atlas;
+		this.x = x;
+		this.y = y;
+		this.width = width;
+		this.height = height;
+	}
+	
+	
+	//getters
+	SpriteAtlas getAtlas() {
+		return this.atlas;
+	}
+	
+	int getX() {
+		return this.x;
+	}
+	
+	int getY() {
+		return this.y;
+	}
+	
+	int getWidth() {
+		return this.width;
+	}
+	
+	int getHeight() {
+		return this.height;
+	}
+}
@@ -9,25 +9,21 @@
 
 package game;
 
-import javafx.scene.image.Image;
-
 class Autopilot extends PowerUp {
 	//Class constants	
 	final static int AUTOPILOT_DURATION = 3;					//autopilot makes cupid shoot arrows automatically for 4 seconds
 	
-	final static Image AUTOPILOT_IMAGE = new Image("images/autopilot.png", PowerUp.POWER_UP_IMAGE_WIDTH, PowerUp.POWER_UP_IMAGE_WIDTH, true, true);
-	final static Image BW_AUTOPILOT = new Image("images/bw-autopilot.png", PowerUp.POWER_UP_IMAGE_WIDTH, PowerUp.POWER_UP_IMAGE_WIDTH, true, true);
 	
 	Autopilot(int x, int y){
-		super(x,y, Autopilot.AUTOPILOT_IMAGE);
+		super(x,y);
 	}
 	
 	@Override
-	void affectCupid(Cupid cupid, GameTimer gametimer) {
-		System.out.println("CUPID is going AUTOPILOT!");
-		gametimer.setHasAutopilot(true);								//set hasAutopilot attribute to true
-		gametimer.setAutopilotTime(System.nanoTime());					//set the autopilotTime to the time it is collected
-		gametimer.setCollectedAutopilots();								//increment collectedAutopilots attribute
+	void affectCupid(Cupid cupid, GameWorld world) {
+		if(GameLog.INFO) GameLog.log(GameLog.AUTOPILOT);
+		world.setHasAutopilot(true);								//set hasAutopilot attribute to true
+		world.setAutopilotTime(world.getCurrentTime());					//set the autopilotTime to the time it is collected
+		world.setCollectedAutopilots();								//increment collectedAutopilots attribute
 		cupid.setAutopilot(true);										//set autopilot attribute to true
 		this.setVisible(false);											//set visibility to false since it is collected
 		
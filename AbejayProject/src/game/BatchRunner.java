@@ -0,0 +1,392 @@
+	/***********************************************************	*
+	* This class plays many whole games without showing them, as
+	* fast as the CPU allows, with a bot instead of the keyboard,
+	* and prints what happened over all of them: how many games
+	* were won, the scores, the power-ups collected and how long
+	* the boss lasted. It is meant for tuning the numbers of the
+	* game (like the health of the boss or how often a power-up
+	* comes) over thousands of games instead of by playing them.
+	*
+	* Usage: java -cp <classes> game.BatchRunner <games> [bot] [seed] [threads]
+	* 	bot is one of:
+	* 	- aim: goes after the power-ups, and otherwise lines up with the nearest human ahead, shooting all the time (default)
+	* 	- sweep: goes up and down the screen, shooting all the time
+	* 	- idle: presses nothing
+	* 	seed is the seed of the first game (game i is played with seed + i, so a run can be repeated), random if left out
+	* 	threads is the number of threads the games are played on (default: the number of cores)
+	*
+	* The games are split in halves until each part is small, and
+	* the parts are played on a ForkJoinPool, whose threads steal
+	* parts from each other when theirs are done, so every core
+	* stays busy even though some games end sooner than others.
+	* Each game has its own world and nothing is shared while the
+	* games are played: each part adds up its games in its own
+	* BatchStats, and the stats of the parts are only added
+	* together once they are done. So the time taken goes down
+	* with the number of cores, and the stats do not depend on
+	* the number of threads.
+	*
+	* The log of the game is turned off unless -Dcupid.log is
+	* given, as printing every score of every game would take
+	* longer than playing them.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-18 16:30
+	***********************************************************/
+
+package game;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+public final class BatchRunner {
+
+	//Class constants
+	private final static String LOG_PROPERTY = "cupid.log";		//system property of the log level (see GameLog)
+	private final static int LEAF_GAMES = 8;					//constant for the most games a part is played on one thread without being split
+	private final static int MAX_SCORE = 1000;					//constant for the highest score counted on its own (higher scores are counted as this one)
+	private final static int TICK_RATE = GameWorld.DEFAULT_TICK_RATE;
+	private final static int MAX_TICKS = 2 * GameWorld.GAME_DURATION * BatchRunner.TICK_RATE;	//constant for the most ticks a game is played for (the time is frozen for some of them)
+	
+	//bots
+	private final static int AIM = 0;
+	private final static int SWEEP = 1;
+	private final static int IDLE = 2;
+	private final static String[] BOT_NAMES = {"aim", "sweep", "idle"};
+	
+	private final static int SWEEP_TICKS = 2 * BatchRunner.TICK_RATE;	//constant for the ticks the sweep bot goes up (then down) for
+	
+	
+	private BatchRunner(){
+	}
+	
+	
+	public static void main(String[] args) {
+		if(args.length < 1 || args.length > 4) {
+			System.out.println("Usage: java -cp <classes> game.BatchRunner <games> [aim|sweep|idle] [seed] [threads]");
+			System.exit(1);
+		}
+		
+		if(System.getProperty(BatchRunner.LOG_PROPERTY) == null) {
+			System.setProperty(BatchRunner.LOG_PROPERTY, "off");		//before GameLog is first used, it reads the level once
+		}
+		
+		int games = Integer.parseInt(args[0]);
+		int bot = args.length > 1 ? BatchRunner.bot(args[1]) : BatchRunner.AIM;
+		long seed = args.length > 2 ? Long.parseLong(args[2]) : GameRandom.newSeed();
+		int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+		
+		System.out.println("Playing " + games + " games with the " + BatchRunner.BOT_NAMES[bot] + " bot on " + threads + " threads"
+				+ ", seeds " + seed + " to " + (seed + games - 1));
+		
+		long start = System.nanoTime();
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		BatchStats stats = pool.invoke(new Batch(seed, 0, games, bot));
+		pool.shutdown();
+		long time = System.nanoTime() - start;
+		
+		stats.print();
+		
+		double seconds = time / (double) TimeUnit.SECONDS.toNanos(1);
+		System.out.println(String.format("Time: %.2f s, %.0f games/s", seconds, games / seconds));
+	}
+	
+	
+	//method that plays one whole game with the bot and adds it to the stats
+	static void play(long seed, int bot, BatchStats stats) {
+		GameWorld world = new GameWorld(BatchRunner.TICK_RATE, 0, seed);
+		world.start(0);
+		
+		int ticks = 0;
+		int bossSpawned = -1;						//tick the boss came at (-1 if it has not come)
+		int bossKilled = -1;						//tick the boss was killed at (-1 if it was not)
+		
+		while(!world.isOver() && ticks < BatchRunner.MAX_TICKS) {
+			world.setKeys(BatchRunner.keys(bot, world, ticks));
+			world.step();
+			ticks++;
+			
+			if(bossSpawned < 0 && world.hasBoss()) {
+				bossSpawned = ticks;
+			}else if(bossSpawned >= 0 && bossKilled < 0 && !world.hasBoss()) {
+				bossKilled = ticks;
+			}
+		}
+		
+		stats.add(world, ticks, bossSpawned, bossKilled);
+	}
+	
+	
+	//method that returns the keys the bot holds during the next tick
+	private static int keys(int bot, GameWorld world, int tick) {
+		switch(bot) {
+			case BatchRunner.AIM:
+				return BatchRunner.aimKeys(world);
+			case BatchRunner.SWEEP:
+				return GameWorld.KEY_FIRE | ((tick / BatchRunner.SWEEP_TICKS) % 2 == 0 ? GameWorld.KEY_UP : GameWorld.KEY_DOWN);
+			default:
+				return 0;
+		}
+	}
+	
+	
+	//method that returns the keys of the aim bot: it goes to the first power-up on screen, and otherwise
+	//moves up or down to the height of the nearest human ahead of it (so the arrows hit it), always shooting
+	private static int aimKeys(GameWorld world) {
+		Cupid cupid = world.getCupid();
+		int centerY = (int) (cupid.getY() + cupid.height/2);
+		int keys = GameWorld.KEY_FIRE;
+		
+		for(PowerUp p: world.getPowerUps()) {
+			if(p.isVisible()) {
+				int centerX = (int) (cupid.getX() + cupid.width/2);
+				
+				keys |= BatchRunner.towards(centerX, (int) (p.getX() + p.width/2), GameWorld.KEY_LEFT, GameWorld.KEY_RIGHT);
+				keys |= BatchRunner.towards(centerY, (int) (p.getY() + p.height/2), GameWorld.KEY_UP, GameWorld.KEY_DOWN);
+				return keys;
+			}
+		}
+		
+		Human target = null;
+		for(Human h: world.getHumans()) {
+			if(h.isVisible() && h.getX() > cupid.getX() && (target == null || h.getX() < target.getX())) {
+				target = h;
+			}
+		}
+		
+		if(target != null) {
+			keys |= BatchRunner.towards(centerY, (int) (target.getY() + target.height/2), GameWorld.KEY_UP, GameWorld.KEY_DOWN);
+		}
+		
+		return keys;
+	}
+	
+	
+	//method that returns the key that moves from a position towards a target (0 when it is close enough)
+	private static int towards(int from, int to, int lessKey, int moreKey) {
+		if(to < from - Cupid.NORMAL_SPEED) {
+			return lessKey;
+		}else if(to > from + Cupid.NORMAL_SPEED) {
+			return moreKey;
+		}
+		return 0;
+	}
+	
+	
+	//method that returns the bot with the given name
+	private static int bot(String name) {
+		for(int i = 0; i < BatchRunner.BOT_NAMES.length; i++) {
+			if(BatchRunner.BOT_NAMES[i].equals(name)) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("Unknown bot: " + name);
+	}
+	
+	
+	//a part of the games (from first to last, last not included), played on the pool
+	private static class Batch extends RecursiveTask<BatchStats> {
+		private final static long serialVersionUID = 1L;
+		
+		private long seed;							//seed of the first game of the whole run
+		private int first;
+		private int last;
+		private int bot;
+		
+		
+		Batch(long seed, int first, int last, int bot){
+			this.seed = seed;
+			this.first = first;
+			this.last = last;
+			this.bot = bot;
+		}
+		
+		
+		//method that plays the games of the part, or splits it in two halves played in parallel
+		protected BatchStats compute() {
+			if(this.last - this.first <= BatchRunner.LEAF_GAMES) {
+				BatchStats stats = new BatchStats();
+				
+				for(int i = this.first; i < this.last; i++) {
+					BatchRunner.play(this.seed + i, this.bot, stats);
+				}
+				return stats;
+			}
+			
+			int middle = (this.first + this.last) >>> 1;
+			Batch left = new Batch(this.seed, this.first, middle, this.bot);
+			Batch right = new Batch(this.seed, middle, this.last, this.bot);
+			
+			left.fork();									//can be stolen by an idle thread while this one plays the right half
+			BatchStats stats = right.compute();
+			stats.add(left.join());
+			return stats;
+		}
+	}
+	
+	
+	//what happened in a number of games, added up
+	static class BatchStats {
+		private int games;
+		private int wins;								//games that lasted the whole time with cupid alive
+		private long ticks;								//ticks played over all the games
+		private long lostTicks;							//ticks played in the games that were lost
+		
+		private int[] scores;							//number of games that ended with each score (0 to MAX_SCORE)
+		private long[] powerUps;						//number of each kind of power-up collected (same order as WorldSnapshot.powerUpKind)
+		private int[] powerUpGames;						//number of games at least one of each kind was collected in
+		
+		private int bossGames;							//games the boss came in
+		private int[] bossKillTicks;					//number of bosses killed after each number of ticks from when they came
+		private int bossKills;
+		
+		//Class constants
+		private final static String[] POWER_UP_NAMES = {"heart", "wings", "dolphin", "autopilot", "snowflake"};
+		
+		
+		BatchStats(){
+			this.scores = new int[BatchRunner.MAX_SCORE + 1];
+			this.powerUps = new long[BatchStats.POWER_UP_NAMES.length];
+			this.powerUpGames = new int[BatchStats.POWER_UP_NAMES.length];
+			this.bossKillTicks = new int[BatchRunner.MAX_TICKS + 1];
+		}
+		
+		
+		//method that adds a game that is over, played for the given ticks (the boss ticks are -1 if it did not happen)
+		void add(GameWorld world, int ticks, int bossSpawned, int bossKilled) {
+			Cupid cupid = world.getCupid();
+			
+			this.games++;
+			this.ticks += ticks;
+			if(cupid.isAlive()) {
+				this.wins++;
+			}else {
+				this.lostTicks += ticks;
+			}
+			
+			this.scores[Math.min(Math.max(cupid.getScore(), 0), BatchRunner.MAX_SCORE)]++;
+			
+			int[] collected = {world.getCollectedHearts(), world.getCollectedWings(), world.getCollectedDolphins(),
+					world.getCollectedAutopilots(), world.getCollectedSnowflakes()};
+			for(int i = 0; i < collected.length; i++) {
+				this.powerUps[i] += collected[i];
+				if(collected[i] > 0) {
+					this.powerUpGames[i]++;
+				}
+			}
+			
+			if(bossSpawned >= 0) {
+				this.bossGames++;
+			}
+			if(bossKilled >= 0) {
+				this.bossKills++;
+				this.bossKillTicks[bossKilled - bossSpawned]++;
+			}
+		}
+		
+		
+		//method that adds the stats of other games to these
+		void add(BatchStats other) {
+			this.games += other.games;
+			this.wins += other.wins;
+			this.ticks += other.ticks;
+			this.lostTicks += other.lostTicks;
+			this.bossGames += other.bossGames;
+			this.bossKills += other.bossKills;
+			
+			BatchStats.addAll(this.scores, other.scores);
+			BatchStats.addAll(this.powerUpGames, other.powerUpGames);
+			BatchStats.addAll(this.bossKillTicks, other.bossKillTicks);
+			for(int i = 0; i < this.powerUps.length; i++) {
+				this.powerUps[i] += other.powerUps[i];
+			}
+		}
+		
+		
+		//method that prints the stats
+		void print() {
+			if(this.games == 0) {
+				System.out.println("No games played");
+				return;
+			}
+			
+			System.out.println(String.format("Games: %d, won %d (%.1f%%), lost %d (after %.1f s on average)",
+					this.games, this.wins, this.percent(this.wins, this.games), this.games - this.wins,
+					this.games == this.wins ? 0.0 : this.seconds(this.lostTicks) / (this.games - this.wins)));
+			
+			System.out.println(String.format("Score: mean %.1f, min %d, p10 %d, median %d, p90 %d, max %d%s",
+					BatchStats.mean(this.scores), BatchStats.percentile(this.scores, 0), BatchStats.percentile(this.scores, 10),
+					BatchStats.percentile(this.scores, 50), BatchStats.percentile(this.scores, 90), BatchStats.percentile(this.scores, 100),
+					this.scores[BatchRunner.MAX_SCORE] > 0 ? " (or more)" : ""));
+			
+			StringBuilder line = new StringBuilder("Power-ups collected per game:");
+			for(int i = 0; i < this.powerUps.length; i++) {
+				line.append(String.format(" %s %.2f (in %.1f%% of games)%s", BatchStats.POWER_UP_NAMES[i],
+						this.powerUps[i] / (double) this.games, this.percent(this.powerUpGames[i], this.games),
+						i < this.powerUps.length - 1 ? "," : ""));
+			}
+			System.out.println(line);
+			
+			if(this.bossKills == 0) {
+				System.out.println(String.format("Boss: came in %d games, never killed", this.bossGames));
+			}else {
+				System.out.println(String.format("Boss: came in %d games, killed in %d (%.1f%%), time to kill: mean %.2f s, median %.2f s, p90 %.2f s, max %.2f s",
+						this.bossGames, this.bossKills, this.percent(this.bossKills, this.bossGames),
+						BatchStats.mean(this.bossKillTicks) / BatchRunner.TICK_RATE,
+						this.seconds(BatchStats.percentile(this.bossKillTicks, 50)), this.seconds(BatchStats.percentile(this.bossKillTicks, 90)),
+						this.seconds(BatchStats.percentile(this.bossKillTicks, 100))));
+			}
+		}
+		
+		
+		private double percent(int count, int total) {
+			return total == 0 ? 0 : 100.0 * count / total;
+		}
+		
+		
+		private double seconds(long ticks) {
+			return ticks / (double) BatchRunner.TICK_RATE;
+		}
+		
+		
+		//method that returns the mean of a histogram (counts[v] is the number of times v was counted)
+		private static double mean(int[] counts) {
+			long sum = 0;
+			long n = 0;
+			
+			for(int v = 0; v < counts.length; v++) {
+				sum += (long) v * counts[v];
+				n += counts[v];
+			}
+			return n == 0 ? 0 : sum / (double) n;
+		}
+		
+		
+		//method that returns the smallest value that at least the given percent of the counted values are at or below
+		private static int percentile(int[] counts, int percent) {
+			long n = 0;
+			for(int c: counts) {
+				n += c;
+			}
+			
+			long rank = Math.max(1, (n * percent + 99) / 100);
+			long seen = 0;
+			
+			for(int v = 0; v < counts.length; v++) {
+				seen += counts[v];
+				if(seen >= rank) {
+					return v;
+				}
+			}
+			return counts.length - 1;
+		}
+		
+		
+		private static void addAll(int[] to, int[] from) {
+			for(int i = 0; i < to.length; i++) {
+				to[i] += from[i];
+			}
+		}
+	}
+}
@@ -0,0 +1,84 @@
+	/***********************************************************	*
+	* This class passes commands (ints) from one thread to another
+	* without a lock: the JavaFX thread puts the keys pressed in
+	* it, and the simulation thread takes them out at the start of
+	* a tick.
+	*
+	* It only works with one thread putting commands in and one
+	* thread taking them out. The commands are kept in a ring of
+	* slots; each thread moves its own counter forward and only
+	* reads the other thread's counter, so putting or taking a
+	* command is an array write and an ordered store, with no lock
+	* and no object created. Each thread also remembers the last
+	* value it read of the other counter, so it does not have to
+	* read it again while there is room (or commands) left.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-18 11:30
+	***********************************************************/
+
+package game;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+class CommandQueue {
+	private final int[] commands;
+	private final int mask;
+	
+	private final AtomicLong head;					//number of the next command to take out (written by the consumer)
+	private final AtomicLong tail;					//number of the next command to put in (written by the producer)
+	private long knownHead;							//last head read by the producer
+	private long knownTail;							//last tail read by the consumer
+	
+	//Class constants
+	final static int EMPTY = -1;					//returned by poll when there is no command
+	
+	
+	//capacity is rounded up to a power of two
+	CommandQueue(int capacity){
+		int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+		
+		this.commands = new int[size];
+		this.mask = size - 1;
+		this.head = new AtomicLong();
+		this.tail = new AtomicLong();
+	}
+	
+	
+	//method that puts a command in the queue (producer thread only)
+	//returns false if the queue is full, the command is then dropped
+	boolean offer(int command) {
+		long t = this.tail.get();
+		
+		if(t - this.knownHead == this.commands.length) {
+			this.knownHead = this.head.get();
+			
+			if(t - this.knownHead == this.commands.length) {
+				return false;
+			}
+		}
+		
+		this.commands[(int) t & this.mask] = command;
+		this.tail.lazySet(t + 1);						//publishes the command after it is written
+		return true;
+	}
+	
+	
+	//method that takes the next command out of the queue (consumer thread only)
+	//returns EMPTY if there is none
+	int poll() {
+		long h = this.head.get();
+		
+		if(h == this.knownTail) {
+			this.knownTail = this.tail.get();
+			
+			if(h == this.knownTail) {
+				return CommandQueue.EMPTY;
+			}
+		}
+		
+		int command = this.commands[(int) h & this.mask];
+		this.head.lazySet(h + 1);						//gives the slot back to the producer
+		return command;
+	}
+}
@@ -0,0 +1,343 @@
+	/***********************************************************	*
+	* This class holds the crowd of extra Humans spawned in the
+	* stress mode of the game (-Dcupid.crowd=<number of humans>).
+	*
+	* Instead of one Human object per human, the crowd keeps every
+	* attribute in its own array (x, y, speed, health, strength and
+	* flags), one slot per human. Moving the crowd and checking it
+	* for collisions walks the arrays from start to end, so a crowd
+	* of ten thousand humans is a few small arrays read in order
+	* rather than ten thousand objects spread around the heap.
+	*
+	* The crowd also keeps a grid of its humans (the same cells as
+	* the SpatialGrid of the GameWorld), filled once a tick after
+	* the humans move, so an arrow is only checked against the
+	* humans in the cells it overlaps instead of the whole crowd.
+	* The grid is two int arrays filled with a counting sort: the
+	* humans of each cell, in the order of the crowd, one cell
+	* after the other.
+	*
+	* Crowd humans are all Normal humans, with the same size and
+	* the same random strength and speed as the Human class. They
+	* turn around at the sides of the window and take damage
+	* through the same methods as the Human class (Human.isAtSide
+	* and Human.damaged), and the GameWorld applies the hits of
+	* the arrows and of cupid to both through the same methods, so
+	* the rules are only written once.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-17 11:20
+	***********************************************************/
+
+package game;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+class CrowdStore {
+	private int[] x;
+	private int[] prevX;							//x position at the start of the current tick (humans only move sideways)
+	private int[] y;
+	private short[] speed;							//movement speed of each human (1 to 5)
+	private short[] health;
+	private short[] strength;						//damage of each human to cupid (30 to 40, decreases when it is hit)
+	private byte[] flags;							//MOVE_RIGHT and FEMALE flags of each human
+	private int count;								//number of humans in the crowd
+	
+	//grid of the humans (see fillGrid)
+	private final int columns;
+	private final int rows;
+	private final int[] cellStart;					//first slot of each cell in cellHumans (cellStart[cell + 1] is the end of the cell)
+	private final int[] cellEnd;					//next free slot of each cell while the grid is filled
+	private int[] cellHumans;						//humans of each cell, in the order of the crowd (a human is in every cell its hitbox overlaps)
+	
+	//Class constants
+	private final static byte MOVE_RIGHT = 1;		//flag for a human moving to the right
+	private final static byte FEMALE = 2;			//flag for a human drawn with the female image
+	private final static int CELL_SIZE = SpatialGrid.DEFAULT_CELL_SIZE;
+	
+	
+	CrowdStore(int capacity){
+		capacity = Math.max(capacity, 1);
+		
+		this.x = new int[capacity];
+		this.prevX = new int[capacity];
+		this.y = new int[capacity];
+		this.speed = new short[capacity];
+		this.health = new short[capacity];
+		this.strength = new short[capacity];
+		this.flags = new byte[capacity];
+		
+		this.columns = (GameStage.WINDOW_WIDTH + CrowdStore.CELL_SIZE - 1) / CrowdStore.CELL_SIZE;
+		this.rows = (GameStage.WINDOW_HEIGHT + CrowdStore.CELL_SIZE - 1) / CrowdStore.CELL_SIZE;
+		this.cellStart = new int[this.columns * this.rows + 1];
+		this.cellEnd = new int[this.columns * this.rows];
+		this.cellHumans = new int[capacity];
+	}
+	
+	
+	//method that adds a human to the crowd
+	void add(int xPos, int yPos, int speed, int strength, boolean moveRight, boolean female) {
+		if(this.count == this.x.length) {
+			this.grow();
+		}
+		
+		int i = this.count++;
+		this.x[i] = xPos;
+		this.prevX[i] = xPos;
+		this.y[i] = yPos;
+		this.speed[i] = (short) speed;
+		this.health[i] = (short) strength;
+		this.strength[i] = (short) strength;
+		this.flags[i] = (byte) ((moveRight ? CrowdStore.MOVE_RIGHT : 0) | (female ? CrowdStore.FEMALE : 0));
+	}
+	
+	
+	//method that remembers where the humans are before they move (so they can be drawn in between ticks)
+	void savePositions() {
+		System.arraycopy(this.x, 0, this.prevX, 0, this.count);
+	}
+	
+	
+	//method that removes the dead humans and moves the others (same rules as Human.move)
+	//the dead humans are dropped by shifting the live ones down in one pass, so the order of the crowd does not change
+	void move(int scale, boolean frozen) {
+		int live = 0;
+		
+		for(int i = 0; i < this.count; i++) {
+			if(!this.isAlive(i)) {
+				continue;
+			}
+			
+			if(!frozen) {						//humans will not move while the time is frozen
+				this.moveHuman(i, this.speed[i] * scale);
+			}
+			
+			if(live != i) {
+				this.copy(i, live);
+			}
+			live++;
+		}
+		
+		this.count = live;
+	}
+	
+	
+	//method that puts the humans in the cells of the grid their hitbox overlaps (called after they move, before firstHit)
+	//counts the humans of each cell, turns the counts into the start of each cell, then writes the humans in order
+	void fillGrid() {
+		Arrays.fill(this.cellStart, 0);
+		int slots = 0;
+		
+		for(int i = 0; i < this.count; i++) {
+			int minColumn = this.column(this.x[i] + Human.HITBOX_INSET_X);
+			int maxColumn = this.column(this.x[i] + Human.HUMAN_IMAGE_WIDTH - Human.HITBOX_INSET_X);
+			int minRow = this.row(this.y[i] + Human.HITBOX_INSET_Y);
+			int maxRow = this.row(this.y[i] + Human.HUMAN_HEIGHT - Human.HITBOX_INSET_Y);
+			
+			for(int r = minRow; r <= maxRow; r++) {
+				for(int c = minColumn; c <= maxColumn; c++) {
+					this.cellStart[r * this.columns + c + 1]++;
+					slots++;
+				}
+			}
+		}
+		
+		for(int cell = 0; cell < this.cellEnd.length; cell++) {
+			this.cellStart[cell + 1] += this.cellStart[cell];
+			this.cellEnd[cell] = this.cellStart[cell];
+		}
+		
+		if(this.cellHumans.length < slots) {
+			this.cellHumans = new int[Math.max(slots, this.cellHumans.length * 2)];
+		}
+		
+		for(int i = 0; i < this.count; i++) {
+			int minColumn = this.column(this.x[i] + Human.HITBOX_INSET_X);
+			int maxColumn = this.column(this.x[i] + Human.HUMAN_IMAGE_WIDTH - Human.HITBOX_INSET_X);
+			int minRow = this.row(this.y[i] + Human.HITBOX_INSET_Y);
+			int maxRow = this.row(this.y[i] + Human.HUMAN_HEIGHT - Human.HITBOX_INSET_Y);
+			
+			for(int r = minRow; r <= maxRow; r++) {
+				for(int c = minColumn; c <= maxColumn; c++) {
+					this.cellHumans[this.cellEnd[r * this.columns + c]++] = i;
+				}
+			}
+		}
+	}
+	
+	
+	//method that returns the first live human (in the order of the crowd) that overlaps the given hitbox, -1 if there is none
+	//only the cells of the hitbox are checked, the humans of a cell are in order so each cell stops at its first hit
+	int firstHit(double minX, double minY, double maxX, double maxY) {
+		int minColumn = this.column(minX);
+		int maxColumn = this.column(maxX);
+		int minRow = this.row(minY);
+		int maxRow = this.row(maxY);
+		
+		int first = -1;
+		for(int r = minRow; r <= maxRow; r++) {
+			for(int c = minColumn; c <= maxColumn; c++) {
+				int cell = r * this.columns + c;
+				
+				for(int slot = this.cellStart[cell]; slot < this.cellStart[cell + 1]; slot++) {
+					int i = this.cellHumans[slot];
+					
+					if(first != -1 && i >= first) {
+						break;										//the humans left in the cell come after the one already found
+					}
+					if(this.isAlive(i) && this.collidesWith(i, minX, minY, maxX, maxY)) {
+						first = i;
+						break;
+					}
+				}
+			}
+		}
+		return first;
+	}
+	
+	
+	//methods that return the column/row of a position, positions outside the window are put in the nearest cell
+	private int column(double xPos) {
+		int c = (int) xPos / CrowdStore.CELL_SIZE;
+		return Math.max(0, Math.min(this.columns - 1, c));
+	}
+	
+	private int row(double yPos) {
+		int r = (int) yPos / CrowdStore.CELL_SIZE;
+		return Math.max(0, Math.min(this.rows - 1, r));
+	}
+	
+	
+	//method that checks if the human overlaps the given hitbox (given by its min and max corners)
+	boolean collidesWith(int i, double minX, double minY, double maxX, double maxY) {
+		return Sprite.intersects(this.x[i] + Human.HITBOX_INSET_X, this.y[i] + Human.HITBOX_INSET_Y,
+				this.x[i] + Human.HUMAN_IMAGE_WIDTH - Human.HITBOX_INSET_X, this.y[i] + Human.HUMAN_HEIGHT - Human.HITBOX_INSET_Y,
+				minX, minY, maxX, maxY);
+	}
+	
+	
+	//method that updates the human's health and strength (same rules as Human.updateHealth)
+	//returns true if the human died because of the damage
+	boolean updateHealth(int i, int damage) {
+		if(!this.isAlive(i)) {
+			return false;
+		}
+		
+		this.health[i] = (short) Human.damaged(this.health[i], damage);
+		this.strength[i] = (short) Human.damaged(this.strength[i], damage);
+		
+		return this.health[i] == 0;
+	}
+	
+	
+	//method that changes the x position of a human, distance is how far it moves (same rules as Human.move)
+	private void moveHuman(int i, int distance) {
+		boolean moveRight = (this.flags[i] & CrowdStore.MOVE_RIGHT) != 0;
+		
+		if(Human.isAtSide(this.x[i], distance, moveRight, Human.HUMAN_WIDTH)) {
+			this.flags[i] ^= CrowdStore.MOVE_RIGHT;										//make human turn around
+		}else if(moveRight) {
+			this.x[i] += distance;
+		}else {
+			this.x[i] -= distance;
+		}
+	}
+	
+	
+	//method that copies a human from one slot to another
+	private void copy(int from, int to) {
+		this.x[to] = this.x[from];
+		this.prevX[to] = this.prevX[from];
+		this.y[to] = this.y[from];
+		this.speed[to] = this.speed[from];
+		this.health[to] = this.health[from];
+		this.strength[to] = this.strength[from];
+		this.flags[to] = this.flags[from];
+	}
+	
+	
+	//method that doubles the size of the arrays
+	private void grow() {
+		int capacity = this.x.length * 2;
+		
+		this.x = Arrays.copyOf(this.x, capacity);
+		this.prevX = Arrays.copyOf(this.prevX, capacity);
+		this.y = Arrays.copyOf(this.y, capacity);
+		this.speed = Arrays.copyOf(this.speed, capacity);
+		this.health = Arrays.copyOf(this.health, capacity);
+		this.strength = Arrays.copyOf(this.strength, capacity);
+		this.flags = Arrays.copyOf(this.flags, capacity);
+	}
+	
+	
+	//method that writes the humans of the crowd into a keyframe
+	void writeState(ByteBuffer out) {
+		out.putInt(this.count);
+		
+		for(int i = 0; i < this.count; i++) {
+			out.putInt(this.x[i]).putInt(this.prevX[i]).putInt(this.y[i]);
+			out.putShort(this.speed[i]).putShort(this.health[i]).putShort(this.strength[i]);
+			out.put(this.flags[i]);
+		}
+	}
+	
+	
+	//method that replaces the crowd with the humans written by writeState
+	void readState(ByteBuffer in) {
+		this.count = in.getInt();
+		
+		while(this.x.length < this.count) {
+			this.grow();
+		}
+		
+		for(int i = 0; i < this.count; i++) {
+			this.x[i] = in.getInt();
+			this.prevX[i] = in.getInt();
+			this.y[i] = in.getInt();
+			this.speed[i] = in.getShort();
+			this.health[i] = in.getShort();
+			this.strength[i] = in.getShort();
+			this.flags[i] = in.get();
+		}
+	}
+	
+	
+	//getters
+	int size() {
+		return this.count;
+	}
+	
+	int getX(int i) {
+		return this.x[i];
+	}
+	
+	int getPrevX(int i) {
+		return this.prevX[i];
+	}
+	
+	int getY(int i) {
+		return this.y[i];
+	}
+	
+	int getStrength(int i) {
+		return this.strength[i];
+	}
+	
+	int getHealth(int i) {
+		return this.health[i];
+	}
+	
+	boolean isAlive(int i) {
+		return this.health[i] > 0;
+	}
+	
+	boolean isFemale(int i) {
+		return (this.flags[i] & CrowdStore.FEMALE) != 0;
+	}
+	
+	//method that returns the x position to draw the human at, alpha (0 to 1) of the way from the previous tick to the current tick
+	int getRenderX(int i, double alpha) {
+		return (int) Math.round(this.prevX[i] + (this.x[i] - this.prevX[i]) * alpha);
+	}
+}
@@ -23,20 +23,13 @@
 
 package game;
 
-import java.util.ArrayList;
-import java.util.Random;
-import javafx.scene.image.Image;
-import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
-import javafx.scene.text.FontWeight;
-import javafx.scene.canvas.GraphicsContext;
-
+import java.nio.ByteBuffer;
 
 class Cupid extends Sprite{
 	private String name;										
 	private int strength;									//cupid's health and damage it can inflict on colliding human
 	private int score = 0;									//cupid's score when its arrow hits a human and falls in love
-	private ArrayList<Arrow> arrows;
+	private ArrowPool arrows;
 	
 	private boolean alive;							
 	private boolean immortal;								//cupid's health will not decrease if it is immortal
@@ -49,18 +42,15 @@ class Cupid extends Sprite{
 	final static int UPGRADED_SPEED = 13;				//upgraded cupid's movement speed
 	
 	final static int CUPID_WIDTH = 70;					//width of the cupid image
-	
-	final static Font DEFAULT_FONT = Font.font("Microsoft Sans Serif", FontWeight.BOLD, 12);
-	final static Image CUPID_IMAGE = new Image("images/cupid.png",Cupid.CUPID_WIDTH,Cupid.CUPID_WIDTH,true,true);
-	private final static Image GLOWING_CUPID_IMAGE = new Image("images/glowing-cupid.png",Cupid.CUPID_WIDTH,Cupid.CUPID_WIDTH,true,true);
+	private final static int CUPID_IMAGE_WIDTH = 64;	//real width of the cupid image (scaled to fit CUPID_WIDTH)
+	private final static int HITBOX_INSET = 6;			//transparent space around cupid's wings and bow
 	
 	
-	Cupid(String name, int x, int y){
+	Cupid(String name, int x, int y, GameRandom random){
 		super(x,y);
 		this.name = name;
 		
-		Random r = new Random();
-		this.strength = r.nextInt(51)+100;
+		this.strength = random.nextInt(51)+100;
 		
 		this.alive = true;
 		this.fast  = false;
@@ -68,10 +58,37 @@ class Cupid extends Sprite{
 		this.autopilot = false;
 		this.frozeTime = false;
 	
-		this.arrows = new ArrayList<Arrow>();
-		this.loadImage(Cupid.CUPID_IMAGE);
+		this.arrows = new ArrowPool();
+		this.setSize(Cupid.CUPID_IMAGE_WIDTH, Cupid.CUPID_WIDTH);		//the size of cupid.png, also while cupid glows (the glowing image is 70x70, but it only ever replaced the image drawn, not the size)
+		this.setHitbox(Cupid.HITBOX_INSET, Cupid.HITBOX_INSET);
 		
-		System.out.println("CUPID's initial strength/health: " + this.getStrength());
+		if(GameLog.INFO) GameLog.log(GameLog.CUPID_STRENGTH, this.getStrength());
+	}
+
+	//methods that write/read cupid, its stats and its arrows to/from a keyframe
+	@Override
+	void writeState(ByteBuffer out) {
+		super.writeState(out);
+		out.putInt(this.strength).putInt(this.score);
+		out.put(this.alive ? (byte) 1 : 0);
+		out.put(this.immortal ? (byte) 1 : 0);
+		out.put(this.fast ? (byte) 1 : 0);
+		out.put(this.autopilot ? (byte) 1 : 0);
+		out.put(this.frozeTime ? (byte) 1 : 0);
+		this.arrows.writeState(out);
+	}
+	
+	@Override
+	void readState(ByteBuffer in) {
+		super.readState(in);
+		this.strength = in.getInt();
+		this.score = in.getInt();
+		this.alive = in.get() != 0;
+		this.immortal = in.get() != 0;
+		this.fast = in.get() != 0;
+		this.autopilot = in.get() != 0;
+		this.frozeTime = in.get() != 0;
+		this.arrows.readState(in);
 	}
 
 	//getters
@@ -85,7 +102,7 @@ class Cupid extends Sprite{
 	}
 	
 	//method that will get the arrows 'shot' by the cupid
-	ArrayList<Arrow> getArrows(){
+	ArrowPool getArrows(){
 		return this.arrows;
 	}
 	
@@ -123,14 +140,8 @@ class Cupid extends Sprite{
 		this.strength = this.strength*2;
 	}
 	
-	void setImmortal(boolean value) {			//method called to change the immortal attribute of Cupid
+	void setImmortal(boolean value) {			//method called to change the immortal attribute of Cupid (cupid glows while immortal)
 		this.immortal = value;
-		
-		if(value == true) {
-			this.setImage(Cupid.GLOWING_CUPID_IMAGE);		//change the cupid's image
-		}else {
-			this.setImage(Cupid.CUPID_IMAGE);				//revert to normal
-		}
 	}
 	
 	void setFast(boolean value) {
@@ -141,7 +152,7 @@ class Cupid extends Sprite{
 		this.score++;
 		
 		//Print prompt
-		System.out.println("CUPID's ARROW successfully makes a HUMAN fall in LOVE! CUPID's score: " + this.getScore());
+		if(GameLog.INFO) GameLog.log(GameLog.SCORE, this.getScore());
 	}
 	
 	void setAutopilot(boolean value) {
@@ -153,38 +164,40 @@ class Cupid extends Sprite{
 	}
 	
 	
-	//method that changes the cupid's image
-	private void setImage(Image image) {
-		this.img = image;
-	}
-	
-	
 	//method called if spacebar is pressed
 	void shoot(){
+		this.shoot(0);
+    }
+	
+	
+	//method that shoots an arrow late 1/60-second frames after the start of the tick (for a tick that covers more than one)
+	//the arrow starts as far behind an arrow shot at the start of the tick as that arrow flies in late frames,
+	//so after the tick the arrows are spaced as if they had been shot one frame after the other
+	void shoot(int late){
 		//compute for the x and y initial position of the arrow
-		int x = (int) (this.x + this.width+20);
+		int x = (int) (this.x + this.width+20) - Arrow.ARROW_SPEED*late;
 		int y = (int) (this.y + this.height/2);
 		
-		Arrow a = new Arrow(x,y, this.getStrength());
-		this.arrows.add(a);
-    }
+		this.arrows.shoot(x,y, this.getStrength());
+	}
 	
 	
 	//method called if up/down/left/right arrow key is pressed.
-	void move() {		
-		int tempX = this.x + this.dx;						
-		int tempY = this.y + this.dy;
+	//scale is the number of 1/60-second frames the move covers (dx and dy are the distance moved in one of them)
+	void move(int scale) {		
+		int tempX = this.x + this.dx*scale;						
+		int tempY = this.y + this.dy*scale;
 		
 		boolean rBounds = this.isRightBounds(tempX);
 		boolean bBounds = this.isBottomBounds(tempY);
 		
 	
 		if((tempX > 0) && (rBounds)) {					//check if the incremented x attribute of cupid is greater than 0 and less than the window width
-			this.x += this.dx;							//increment x 
+			this.x += this.dx*scale;					//increment x 
 		}
 		
 		if((tempY > GameTimer.GAME_STATUS_BAR_HEIGHT) && (bBounds)) {					//check if the incremented y attribute of cupid is greater than 0 and less than the window height
-			this.y += this.dy;							//increment y
+			this.y += this.dy*scale;					//increment y
 		}
 	
 	}
@@ -228,24 +241,6 @@ class Cupid extends Sprite{
 	}
 
 	
-	//overrides the render method of sprite, includes text showing the cupids's strength
-	@Override
-	void render(GraphicsContext gc) {
-		super.render(gc);
-		gc.setFont(Cupid.DEFAULT_FONT);		
-		gc.setFill(Color.WHITE);
-		
-		if(this.getStrength() >= 100) {
-			gc.fillText(this.getStrength() + "", this.getX()+7, this.getY()+6);
-		}else if(this.getStrength() >= 10 && this.getStrength() < 100) {
-			gc.fillText(this.getStrength() + "", this.getX()+12, this.getY()+6);
-		}else {
-			gc.fillText(this.getStrength() + "", this.getX()+18, this.getY()+6);
-		}
-		
-	}
-	
-	
 	//method called when the cupid has hit a human
 	//changes the x position of cupid
 	//if the cupid's x position is less than the human's x position, the x attribute is decreased
@@ -0,0 +1,92 @@
+	/***********************************************************	*
+	* This class draws numbers (like the health of the humans and
+	* the strength of cupid) from an image of the digits 0 to 9.
+	*
+	* The digits are drawn once with the font and color given, on
+	* a canvas that is copied to an image. Drawing a number then
+	* copies the part of the image of each of its digits, so no
+	* String is created and no text layout is done per sprite per
+	* frame, which matters when hundreds of humans are on screen.
+	* The digits are added to the SpriteBatch of the frame, so all
+	* the numbers are drawn together after the sprites. The atlas
+	* of the sprites is made once (GameStage.SPRITE_DIGITS) and
+	* shared by every game played.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-17 15:55
+	***********************************************************/
+
+package game;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+class DigitAtlas {
+	private Image image;							//image of the digits 0 to 9, side by side
+	private double[] offsets;						//x position of each digit in the image
+	private double[] widths;						//width of each digit (its advance, so digits can be placed one after the other)
+	private double ascent;							//height of the digits above the baseline
+	private double height;
+	
+	//Class constants
+	private final static int PADDING = 2;			//space between the digits in the image (so a digit does not bleed into the next one)
+	
+	
+	DigitAtlas(Font font, Color color){
+		this.offsets = new double[10];
+		this.widths = new double[10];
+		
+		Text text = new Text("0");
+		text.setFont(font);
+		this.ascent = -text.getLayoutBounds().getMinY();
+		this.height = Math.ceil(text.getLayoutBounds().getHeight());
+		
+		double x = 0;
+		for(int d = 0; d < 10; d++) {
+			text.setText(String.valueOf(d));
+			
+			this.offsets[d] = x;
+			this.widths[d] = text.getLayoutBounds().getWidth();
+			x += Math.ceil(this.widths[d]) + DigitAtlas.PADDING;
+		}
+		
+		Canvas canvas = new Canvas(Math.ceil(x), this.height);
+		GraphicsContext gc = canvas.getGraphicsContext2D();
+		gc.setFont(font);
+		gc.setFill(color);
+		
+		for(int d = 0; d < 10; d++) {
+			gc.fillText(String.valueOf(d), this.offsets[d], this.ascent);
+		}
+		
+		SnapshotParameters params = new SnapshotParameters();
+		params.setFill(Color.TRANSPARENT);
+		this.image = canvas.snapshot(params, null);
+	}
+	
+	
+	//method that adds a number (0 or more) to the batch, with its first digit at x, and y as the baseline (the same place fillText would draw it)
+	void draw(SpriteBatch batch, int value, double x, double y) {
+		value = Math.max(value, 0);
+		
+		int divisor = 1;
+		while(value / divisor >= 10) {
+			divisor *= 10;
+		}
+		
+		double top = y - this.ascent;
+		
+		while(divisor > 0) {
+			int d = (value / divisor) % 10;
+			
+			batch.draw(this.image, this.offsets[d], 0, this.widths[d], this.height, x, top);
+			x += this.widths[d];
+			divisor /= 10;
+		}
+	}
+}
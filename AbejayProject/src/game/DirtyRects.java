@@ -0,0 +1,145 @@
+	/***********************************************************	*
+	* This class holds the parts of the screen (rectangles) that
+	* have to be repainted in a frame, in the dirty-rectangle mode
+	* of the GameTimer.
+	*
+	* Rectangles are rounded out to whole pixels (plus a pixel of
+	* margin, for the smoothing of sprites drawn between pixels)
+	* and cut to the canvas. A rectangle inside one already added
+	* is not added again. When there are too many rectangles, or
+	* they cover more than half of the canvas, the set is full:
+	* repainting the whole canvas is then cheaper.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-17 16:55
+	***********************************************************/
+
+package game;
+
+import javafx.scene.canvas.GraphicsContext;
+
+class DirtyRects {
+	private int[] x;
+	private int[] y;
+	private int[] width;
+	private int[] height;
+	private int count;
+	private long area;								//area of all the rectangles (overlaps are counted twice)
+	private boolean full;							//whether the whole canvas has to be repainted
+	
+	private final int canvasWidth;
+	private final int canvasHeight;
+	
+	//Class constants
+	private final static int MAX_RECTS = 48;
+	private final static int MARGIN = 1;
+	
+	
+	DirtyRects(int canvasWidth, int canvasHeight){
+		this.canvasWidth = canvasWidth;
+		this.canvasHeight = canvasHeight;
+		
+		this.x = new int[DirtyRects.MAX_RECTS];
+		this.y = new int[DirtyRects.MAX_RECTS];
+		this.width = new int[DirtyRects.MAX_RECTS];
+		this.height = new int[DirtyRects.MAX_RECTS];
+	}
+	
+	
+	//method that adds a part of the screen to repaint
+	void add(double xPos, double yPos, double w, double h) {
+		if(this.full) {
+			return;
+		}
+		
+		int minX = Math.max(0, (int) Math.floor(xPos) - DirtyRects.MARGIN);
+		int minY = Math.max(0, (int) Math.floor(yPos) - DirtyRects.MARGIN);
+		int maxX = Math.min(this.canvasWidth, (int) Math.ceil(xPos + w) + DirtyRects.MARGIN);
+		int maxY = Math.min(this.canvasHeight, (int) Math.ceil(yPos + h) + DirtyRects.MARGIN);
+		
+		if(minX >= maxX || minY >= maxY) {				//off the canvas
+			return;
+		}
+		
+		for(int i = 0; i < this.count; i++) {
+			if(minX >= this.x[i] && minY >= this.y[i] && maxX <= this.x[i] + this.width[i] && maxY <= this.y[i] + this.height[i]) {
+				return;									//already repainted by another rectangle
+			}
+		}
+		
+		this.area += (long) (maxX - minX) * (maxY - minY);
+		
+		if(this.count == DirtyRects.MAX_RECTS || this.area * 2 > (long) this.canvasWidth * this.canvasHeight) {
+			this.full = true;
+			return;
+		}
+		
+		int i = this.count++;
+		this.x[i] = minX;
+		this.y[i] = minY;
+		this.width[i] = maxX - minX;
+		this.height[i] = maxY - minY;
+	}
+	
+	
+	//method that checks if a part of the screen overlaps a rectangle to repaint
+	boolean intersects(double xPos, double yPos, double w, double h) {
+		for(int i = 0; i < this.count; i++) {
+			if(Sprite.intersects(xPos, yPos, xPos + w, yPos + h,
+					this.x[i], this.y[i], this.x[i] + this.width[i], this.y[i] + this.height[i])) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	
+	//method that limits the drawing of gc to the rectangles (call gc.save() before and gc.restore() after)
+	void clip(GraphicsContext gc) {
+		gc.beginPath();
+		
+		for(int i = 0; i < this.count; i++) {
+			gc.rect(this.x[i], this.y[i], this.width[i], this.height[i]);
+		}
+		gc.clip();
+		gc.beginPath();
+	}
+	
+	
+	//method that removes all the rectangles
+	void clear() {
+		this.count = 0;
+		this.area = 0;
+		this.full = false;
+	}
+	
+	
+	//getters
+	boolean isEmpty() {
+		return this.count == 0 && !this.full;
+	}
+	
+	boolean isFull() {
+		return this.full;
+	}
+	
+	int size() {
+		return this.count;
+	}
+	
+	int getX(int i) {
+		return this.x[i];
+	}
+	
+	int getY(int i) {
+		return this.y[i];
+	}
+	
+	int getWidth(int i) {
+		return this.width[i];
+	}
+	
+	int getHeight(int i) {
+		return this.height[i];
+	}
+}
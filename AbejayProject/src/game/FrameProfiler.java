@@ -0,0 +1,138 @@
+	/***********************************************************	*
+	* This class measures how long each phase of a frame takes,
+	* so a slow frame can be traced back to the part of the game
+	* that caused it.
+	*
+	* The GameTimer times the whole frame and the drawing (on the
+	* JavaFX thread); the Simulation times the ticks of the world
+	* and the GameWorld the phases of a tick (events, power-ups,
+	* moving and collisions), on the simulation thread. Each thread
+	* only records its own phases. One profiler is used by every
+	* game played, so a new game is only started once the
+	* simulation thread of the previous one has ended (see
+	* GameStage.newGame): there is never more than one thread
+	* recording the phases of a tick. Each phase has
+	* a Histogram of its times, which the debug overlay (F3) shows
+	* as p50/p99/max. With -Dcupid.profileCsv=<file>, the times of
+	* all the games played are written to a CSV file on exit.
+	* The overlay and the CSV file read the histograms from other
+	* threads while they are recorded, which Histogram allows.
+	*
+	* Timing a phase is two calls to System.nanoTime, so the
+	* profiler is always on for the game that is shown. A world
+	* that is not shown (the batch runner, the replays that are
+	* checked, the benchmarks) uses OFF instead, which does not
+	* read the clock or record anything.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-17 14:10
+	***********************************************************/
+
+package game;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+
+class FrameProfiler {
+	private final Histogram[] histograms;		//times of each phase
+	private final long[] starts;				//time each phase was last started
+	private final boolean enabled;				//whether the phases are timed (false for OFF)
+	
+	//Class constants
+	final static int FRAME = 0;					//the whole frame (GameTimer.handle)
+	final static int SIMULATE = 1;				//the ticks of the world done at once, and the snapshot of it (simulation thread)
+	final static int EVENTS = 2;				//events of a tick (spawn waves, end of power-up effects)
+	final static int POWER_UPS = 3;				//monitorPowerUps of a tick
+	final static int MOVE = 4;					//moveSprites of a tick
+	final static int COLLISIONS = 5;			//collidingSprites of a tick
+	final static int SCREEN = 6;				//initScreen (background and status bar)
+	final static int SPRITES = 7;				//renderSprites
+	
+	final static String[] PHASE_NAMES = {"frame", "simulate", "events", "powerUps", "move", "collisions", "screen", "sprites"};
+	
+	final static String CSV_PROPERTY = "cupid.profileCsv";		//system property for the CSV file written on exit
+	
+	final static FrameProfiler OFF = new FrameProfiler(false);	//profiler of the worlds that are not shown, times nothing (so it can be shared by all of them)
+	
+	
+	FrameProfiler(){
+		this(true);
+	}
+	
+	
+	private FrameProfiler(boolean enabled){
+		this.enabled = enabled;
+		this.histograms = new Histogram[FrameProfiler.PHASE_NAMES.length];
+		this.starts = new long[FrameProfiler.PHASE_NAMES.length];
+		
+		for(int i = 0; i < this.histograms.length; i++) {
+			this.histograms[i] = new Histogram();
+		}
+	}
+	
+	
+	//method called when a phase starts
+	void begin(int phase) {
+		if(this.enabled) {
+			this.starts[phase] = System.nanoTime();
+		}
+	}
+	
+	
+	//method called when a phase ends, records the time since it started
+	void end(int phase) {
+		if(this.enabled) {
+			this.histograms[phase].record(System.nanoTime() - this.starts[phase]);
+		}
+	}
+	
+	
+	//method that writes the times of every phase to a CSV file (one row per phase, times in microseconds)
+	void writeCsv(String path) throws IOException {
+		try(PrintWriter out = new PrintWriter(path, "UTF-8")) {
+			out.println("phase,count,p50_us,p90_us,p99_us,p999_us,max_us");
+			
+			for(int i = 0; i < this.histograms.length; i++) {
+				Histogram h = this.histograms[i];
+				
+				out.println(FrameProfiler.PHASE_NAMES[i] + "," + h.getCount()
+						+ "," + FrameProfiler.micros(h.getPercentile(0.5))
+						+ "," + FrameProfiler.micros(h.getPercentile(0.9))
+						+ "," + FrameProfiler.micros(h.getPercentile(0.99))
+						+ "," + FrameProfiler.micros(h.getPercentile(0.999))
+						+ "," + FrameProfiler.micros(h.getMax()));
+			}
+		}
+	}
+	
+	
+	//method that writes the CSV file when the application exits (does nothing if path is null)
+	void writeCsvOnExit(String path) {
+		if(path == null) {
+			return;
+		}
+		
+		Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+			public void run() {
+				try {
+					writeCsv(path);
+				}catch(IOException e) {
+					System.out.println("Could not write the frame profile to " + path + ": " + e.getMessage());
+				}
+			}
+		}));
+	}
+	
+	
+	//method that returns nanoseconds as microseconds, with one decimal place
+	static String micros(long nanos) {
+		return String.format(Locale.ROOT, "%.1f", nanos / 1000.0);
+	}
+	
+	
+	//getters
+	Histogram getHistogram(int phase) {
+		return this.histograms[phase];
+	}
+}
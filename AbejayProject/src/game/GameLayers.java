@@ -0,0 +1,72 @@
+	/***********************************************************	*
+	* This class holds the layers the game scene is made of, from
+	* the back to the front:
+	* 	- the background: the game background image, scrolled by
+	* 	  moving a pair of cached ImageViews (nothing is redrawn)
+	* 	- the sprites: a canvas cleared and redrawn by the GameTimer
+	* 	- the HUD: the canvas of the status bar, only drawn on when
+	* 	  what the bar shows has changed
+	*
+	* Each layer is its own node, so a change in one layer does not
+	* make JavaFX redraw the others: the background is a texture
+	* that is only moved, and the status bar is not redrawn when
+	* only the sprites have moved.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-18 09:10
+	***********************************************************/
+
+package game;
+
+import javafx.scene.CacheHint;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.image.ImageView;
+
+class GameLayers {
+	private Group background;
+	private Group scrolling;						//the two copies of the background image that scroll
+	private Canvas sprites;
+	private Canvas hud;
+	
+	
+	GameLayers(){
+		ImageView still = new ImageView(GameStage.GAME_BG);			//shown where the scrolling copies do not cover the window
+		
+		ImageView left = new ImageView(GameStage.GAME_BG);
+		left.setX(-GameStage.GAME_BG.getWidth());
+		ImageView right = new ImageView(GameStage.GAME_BG);
+		
+		this.scrolling = new Group(left, right);
+		this.scrolling.setCache(true);								//the copies are kept as a texture, moving them only changes where it is drawn
+		this.scrolling.setCacheHint(CacheHint.SPEED);
+		
+		this.background = new Group(still, this.scrolling);
+		
+		this.sprites = new Canvas(GameStage.WINDOW_WIDTH, GameStage.WINDOW_HEIGHT);
+		this.hud = new Canvas(GameStage.WINDOW_WIDTH, GameTimer.GAME_STATUS_BAR_HEIGHT);
+	}
+	
+	
+	//method that scrolls the background to the given position (the x of the right copy of the image)
+	void scrollBackground(double backgroundX) {
+		this.scrolling.setTranslateX(backgroundX);
+	}
+	
+	
+	//method that returns the layers from the back to the front, to be added to the scene
+	Node[] getNodes() {
+		return new Node[] {this.background, this.sprites, this.hud};
+	}
+	
+	
+	//getters
+	Canvas getSprites() {
+		return this.sprites;
+	}
+	
+	Canvas getHud() {
+		return this.hud;
+	}
+}
@@ -0,0 +1,277 @@
+	/***********************************************************	*
+	* This class prints the messages of the game (score, hits,
+	* power-ups, key presses) without making the game wait for
+	* the console.
+	*
+	* The game only puts a number for the kind of message and its
+	* values (e.g. SCORE and the new score) in a ring buffer, which
+	* takes a few array writes and no lock. A background thread
+	* takes the messages out of the buffer, turns them into text
+	* and prints them, so a slow console (or one redirected to a
+	* file) slows down the log thread instead of the frames. If the
+	* buffer is ever full, the message is dropped and counted.
+	* When the buffer is empty the log thread parks until the next
+	* message wakes it up, so it does not use the CPU while the
+	* game is paused or nothing is logged.
+	*
+	* The log level is set with -Dcupid.log=off|info|debug (info
+	* by default, key presses are debug messages). Messages are
+	* logged behind the static final flags INFO and DEBUG, read
+	* once from the property when the class is loaded: a level
+	* that is off costs one test of a flag per message, and none
+	* once the JIT has compiled the code (it treats the flags as
+	* constants and drops the logging).
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-17 14:55
+	***********************************************************/
+
+package game;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+final class GameLog {
+	//Log levels
+	private final static String LEVEL = System.getProperty("cupid.log", "info");
+	final static boolean INFO = GameLog.LEVEL.equals("info") || GameLog.LEVEL.equals("debug");
+	final static boolean DEBUG = GameLog.LEVEL.equals("debug");
+	
+	//Messages
+	final static int CUPID_STRENGTH = 0;		//value: cupid's initial strength
+	final static int SCORE = 1;					//value: cupid's new score
+	final static int CUPID_HIT = 2;				//values: strength of the human, cupid's strength after the hit
+	final static int CUPID_DEAD = 3;
+	final static int TIME_UP = 4;
+	final static int HEART = 5;
+	final static int WINGS = 6;
+	final static int DOLPHIN = 7;
+	final static int AUTOPILOT = 8;
+	final static int SNOWFLAKE = 9;
+	final static int WINGS_OFF = 10;
+	final static int DOLPHIN_OFF = 11;
+	final static int AUTOPILOT_OFF = 12;
+	final static int SNOWFLAKE_OFF = 13;
+	final static int KEY_PRESSED = 14;			//object: the key
+	final static int PAUSED = 15;
+	final static int RESUMED = 16;
+	final static int SEED = 17;					//object: the seed of the game
+	final static int REPLAY_SAVED = 18;			//object: the file of the replay
+	final static int REPLAY_CHECKED = 19;		//value: 1 if the replay ended like the recorded game, 0 if not
+	final static int REPLAY_NOT_SAVED = 20;		//object: the file of the replay and the error
+	
+	//Ring buffer
+	private final static int CAPACITY = 1024;									//number of messages the buffer holds (a power of two)
+	private final static int MASK = GameLog.CAPACITY - 1;
+	
+	private final static int[] kinds = new int[GameLog.CAPACITY];
+	private final static int[] values = new int[GameLog.CAPACITY];
+	private final static int[] otherValues = new int[GameLog.CAPACITY];
+	private final static Object[] objects = new Object[GameLog.CAPACITY];
+	private final static AtomicLongArray published = new AtomicLongArray(GameLog.CAPACITY);	//number of the message written in each slot, plus 1 (0 while the slot is empty)
+	
+	private final static AtomicLong head = new AtomicLong();					//number of the next message to be put in the buffer
+	private static volatile long tail;											//number of the next message to be printed
+	private final static AtomicLong dropped = new AtomicLong();				//number of messages dropped since the last print
+	
+	private static Thread writer;												//the log thread (null when the log is off)
+	private static volatile boolean sleeping;									//whether the log thread is parked (or about to park) on an empty buffer
+	
+	static {
+		if(GameLog.INFO) {
+			GameLog.writer = new Thread(new Runnable() {
+				public void run() {
+					GameLog.write();
+				}
+			}, "game-log");
+			GameLog.writer.setDaemon(true);
+			GameLog.writer.start();
+			
+			//print the messages still in the buffer when the application exits
+			Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+				public void run() {
+					GameLog.drain(new StringBuilder());
+				}
+			}));
+		}
+	}
+	
+	
+	private GameLog(){
+	}
+	
+	
+	//methods that put a message in the buffer (called behind INFO or DEBUG)
+	static void log(int kind) {
+		GameLog.log(kind, 0, 0, null);
+	}
+	
+	static void log(int kind, int value) {
+		GameLog.log(kind, value, 0, null);
+	}
+	
+	static void log(int kind, int value, int otherValue) {
+		GameLog.log(kind, value, otherValue, null);
+	}
+	
+	static void log(int kind, Object object) {
+		GameLog.log(kind, 0, 0, object);
+	}
+	
+	
+	//method that claims the next slot of the buffer, writes the message and publishes it for the log thread
+	//more than one thread can log at the same time, each one claims its own slot
+	private static void log(int kind, int value, int otherValue, Object object) {
+		long n;
+		
+		do {
+			n = GameLog.head.get();
+			
+			if(n - GameLog.tail >= GameLog.CAPACITY) {
+				GameLog.dropped.incrementAndGet();			//the buffer is full, drop the message instead of waiting
+				return;
+			}
+		}while(!GameLog.head.compareAndSet(n, n + 1));
+		
+		int slot = (int) n & GameLog.MASK;
+		GameLog.kinds[slot] = kind;
+		GameLog.values[slot] = value;
+		GameLog.otherValues[slot] = otherValue;
+		GameLog.objects[slot] = object;
+		GameLog.published.set(slot, n + 1);				//a full write, so it cannot be reordered after the read of sleeping
+		
+		if(GameLog.sleeping) {
+			LockSupport.unpark(GameLog.writer);			//the buffer was empty, wake up the log thread
+		}
+	}
+	
+	
+	//method run by the log thread, prints the messages in the buffer as they come and parks while it is empty
+	//the buffer is checked again after sleeping is set, so a message logged just before is not left waiting
+	private static void write() {
+		StringBuilder text = new StringBuilder();
+		
+		while(true) {
+			if(!GameLog.drain(text)) {
+				GameLog.sleeping = true;
+				
+				if(!GameLog.hasMessage()) {
+					LockSupport.park();
+				}
+				GameLog.sleeping = false;
+			}
+		}
+	}
+	
+	
+	//method that returns whether the next message to be printed has been written
+	private static boolean hasMessage() {
+		long n = GameLog.tail;
+		return GameLog.published.get((int) n & GameLog.MASK) == n + 1 || GameLog.dropped.get() > 0;
+	}
+	
+	
+	//method that prints the messages that are ready, returns false if there were none
+	private static synchronized boolean drain(StringBuilder text) {
+		long n = GameLog.tail;
+		text.setLength(0);
+		
+		while(true) {
+			int slot = (int) n & GameLog.MASK;
+			
+			if(GameLog.published.get(slot) != n + 1) {		//the message has not been written yet
+				break;
+			}
+			
+			GameLog.format(GameLog.kinds[slot], GameLog.values[slot], GameLog.otherValues[slot], GameLog.objects[slot], text);
+			GameLog.objects[slot] = null;
+			n++;
+		}
+		
+		long lost = GameLog.dropped.getAndSet(0);
+		if(lost > 0) {
+			text.append("(").append(lost).append(" log messages dropped)\n");
+		}
+		
+		if(text.length() == 0) {
+			return false;
+		}
+		
+		GameLog.tail = n;
+		System.out.print(text);
+		System.out.flush();
+		return true;
+	}
+	
+	
+	//method that turns a message into the text printed
+	private static void format(int kind, int value, int otherValue, Object object, StringBuilder text) {
+		switch(kind) {
+			case GameLog.CUPID_STRENGTH:
+				text.append("CUPID's initial strength/health: ").append(value).append('\n');
+				break;
+			case GameLog.SCORE:
+				text.append("CUPID's ARROW successfully makes a HUMAN fall in LOVE! CUPID's score: ").append(value).append('\n');
+				break;
+			case GameLog.CUPID_HIT:
+				text.append("CUPID got hit by a HUMAN with strength ").append(value).append('\n');
+				text.append("Current CUPID's strength is ").append(otherValue).append('\n');
+				break;
+			case GameLog.CUPID_DEAD:
+				text.append("CUPID has lost all of his strength!\nGAME OVER!\n");
+				break;
+			case GameLog.TIME_UP:
+				text.append("60 seconds is up!\nGAME OVER!\n");
+				break;
+			case GameLog.HEART:
+				text.append("CUPID has collected a HEART!\n");
+				break;
+			case GameLog.WINGS:
+				text.append("CUPID has collected a new set of WINGS!\n");
+				break;
+			case GameLog.DOLPHIN:
+				text.append("CUPID has found a DOLPHIN!\n");
+				break;
+			case GameLog.AUTOPILOT:
+				text.append("CUPID is going AUTOPILOT!\n");
+				break;
+			case GameLog.SNOWFLAKE:
+				text.append("CUPID FROZE the time!\n");
+				break;
+			case GameLog.WINGS_OFF:
+				text.append("WINGS effect has worn off.\n");
+				break;
+			case GameLog.DOLPHIN_OFF:
+				text.append("DOLPHIN effect has worn off\n");
+				break;
+			case GameLog.AUTOPILOT_OFF:
+				text.append("AUTOPILOT effect has worn off\n");
+				break;
+			case GameLog.SNOWFLAKE_OFF:
+				text.append("SNOWFLAKE effect has worn off\n");
+				break;
+			case GameLog.KEY_PRESSED:
+				text.append(object).append(" key pressed.\n");
+				break;
+			case GameLog.PAUSED:
+				text.append("Game is paused.\n");
+				break;
+			case GameLog.RESUMED:
+				text.append("Game is resumed.\n");
+				break;
+			case GameLog.SEED:
+				text.append("Game seed: ").append(object).append('\n');
+				break;
+			case GameLog.REPLAY_SAVED:
+				text.append("Replay saved to ").append(object).append('\n');
+				break;
+			case GameLog.REPLAY_NOT_SAVED:
+				text.append("Could not save the replay to ").append(object).append('\n');
+				break;
+			case GameLog.REPLAY_CHECKED:
+				text.append(value == 1 ? "Replay ended like the recorded game.\n" : "Replay did NOT end like the recorded game!\n");
+				break;
+		}
+	}
+}
@@ -0,0 +1,125 @@
+	/***********************************************************	*
+	* This class is the source of every random number of a game:
+	* where cupid, the humans and the power-ups are spawned, their
+	* strength and speed, and which power-up comes next.
+	*
+	* Each GameWorld has one GameRandom, created from a seed and
+	* given to the sprites it spawns, instead of every spawn making
+	* its own java.util.Random. A Random is slower (it updates its
+	* state with a compare-and-set, and every new one goes through
+	* a seed shared by all threads), and a game made from Randoms
+	* seeded by the clock cannot be played again. Two worlds with
+	* the same seed, given the same keys on the same ticks, play
+	* the same game.
+	*
+	* The numbers come from xoshiro256**, and its four state words
+	* are filled from the seed with SplitMix64 (as its authors
+	* suggest), so close seeds still give unrelated games. It is
+	* not thread-safe: only the thread that steps the world uses it.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-18 12:50
+	***********************************************************/
+
+package game;
+
+import java.nio.ByteBuffer;
+
+class GameRandom {
+	private final long seed;
+	private long s0;
+	private long s1;
+	private long s2;
+	private long s3;
+	
+	//Class constants
+	private final static long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;		//constant added to the SplitMix64 state for every word
+	
+	
+	GameRandom(long seed){
+		this.seed = seed;
+		
+		long x = seed;
+		this.s0 = GameRandom.mix(x += GameRandom.GOLDEN_GAMMA);
+		this.s1 = GameRandom.mix(x += GameRandom.GOLDEN_GAMMA);
+		this.s2 = GameRandom.mix(x += GameRandom.GOLDEN_GAMMA);
+		this.s3 = GameRandom.mix(x += GameRandom.GOLDEN_GAMMA);
+	}
+	
+	
+	//method that returns a seed for a game nobody asked to play again (different every time)
+	static long newSeed() {
+		return GameRandom.mix(System.nanoTime() ^ System.currentTimeMillis() * GameRandom.GOLDEN_GAMMA);
+	}
+	
+	
+	//method that returns the next 64 random bits
+	long nextLong() {
+		long result = Long.rotateLeft(this.s1 * 5, 7) * 9;
+		long t = this.s1 << 17;
+		
+		this.s2 ^= this.s0;
+		this.s3 ^= this.s1;
+		this.s1 ^= this.s2;
+		this.s0 ^= this.s3;
+		this.s2 ^= t;
+		this.s3 = Long.rotateLeft(this.s3, 45);
+		
+		return result;
+	}
+	
+	
+	//method that returns a random number from 0 to bound-1 (like Random.nextInt(bound))
+	int nextInt(int bound) {
+		if(bound <= 0) {
+			throw new IllegalArgumentException("Bound must be positive: " + bound);
+		}
+		
+		//multiply the top 32 bits by the bound and keep the high half, rejecting the few values that would make
+		//the low numbers more likely (Lemire's method)
+		long m = (this.nextLong() >>> 32) * bound;
+		long low = m & 0xffffffffL;
+		
+		if(low < bound) {
+			long threshold = (0x100000000L - bound) % bound;
+			while(low < threshold) {
+				m = (this.nextLong() >>> 32) * bound;
+				low = m & 0xffffffffL;
+			}
+		}
+		return (int) (m >>> 32);
+	}
+	
+	
+	//method that returns true or false, each half of the time
+	boolean nextBoolean() {
+		return this.nextLong() < 0;
+	}
+	
+	
+	//methods that write/read the state of the generator to/from a keyframe (the numbers then go on from where they were)
+	void writeState(ByteBuffer out) {
+		out.putLong(this.s0).putLong(this.s1).putLong(this.s2).putLong(this.s3);
+	}
+	
+	void readState(ByteBuffer in) {
+		this.s0 = in.getLong();
+		this.s1 = in.getLong();
+		this.s2 = in.getLong();
+		this.s3 = in.getLong();
+	}
+	
+	
+	//method that returns the seed the numbers come from
+	long getSeed() {
+		return this.seed;
+	}
+	
+	
+	//method that scrambles a SplitMix64 state into a random word
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
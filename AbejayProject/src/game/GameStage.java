@@ -47,9 +47,9 @@ public class GameStage {
 	private Scene gameOverScene;					//game over scene
 	
 	private Group root;
-	private Canvas canvas;
-	private GraphicsContext gc;
+	private GameLayers layers;						//background, sprite and HUD layers of the game scene
 	private GameTimer gametimer;
+	private FrameProfiler profiler;					//times the frames of every game played (shown with F3)
 	
 	private Canvas howToCanvas;
 	private Canvas aboutCanvas;
@@ -62,46 +62,81 @@ public class GameStage {
 	final static int WINDOW_WIDTH = 800;
 	
 	//Scene backgrounds
-	final static Image SPLASH_BG = new Image("images/splash-bg.png", GameStage.WINDOW_WIDTH, GameStage.WINDOW_HEIGHT, true, true);
-	final static Image GAME_BG = new Image("images/gamescene-bg.png", GameStage.WINDOW_WIDTH, GameStage.WINDOW_HEIGHT, true, false);
-	final static Image WIN_BG = new Image("images/gameover-win-bg.png", GameStage.WINDOW_WIDTH, GameStage.WINDOW_HEIGHT, true, true);
-	final static Image LOSE_BG = new Image("images/gameover-lose-bg.png", GameStage.WINDOW_WIDTH, GameStage.WINDOW_HEIGHT, true, true);
-	final static Image HOWTO_BG = new Image("images/howto-bg.png", GameStage.WINDOW_WIDTH, GameStage.WINDOW_HEIGHT, true, true);
-	final static Image ABOUT_BG = new Image("images/about-bg.png", GameStage.WINDOW_WIDTH, GameStage.WINDOW_HEIGHT, true, true);
+	final static Image SPLASH_BG = AssetManager.getPreloaded(AssetManager.SPLASH_BG);
+	final static Image GAME_BG = AssetManager.getPreloaded(AssetManager.GAME_BG);
+	final static Image WIN_BG = AssetManager.getPreloaded(AssetManager.WIN_BG);
+	final static Image LOSE_BG = AssetManager.getPreloaded(AssetManager.LOSE_BG);
+	final static Image HOWTO_BG = AssetManager.getPreloaded(AssetManager.HOWTO_BG);
+	final static Image ABOUT_BG = AssetManager.getPreloaded(AssetManager.ABOUT_BG);
 	
 	//Title cards
-	final static Image TITLE_CARD = new Image("images/title-card.png", GameStage.WINDOW_WIDTH*0.95, 200, true, true);
-	final static Image WIN_CARD = new Image("images/win-card.png", GameStage.WINDOW_WIDTH*0.85, 200, true, false);
-	final static Image LOSE_CARD = new Image("images/lose-card.png", GameStage.WINDOW_WIDTH*0.85, 200, true, false);
-	final static Image GAMEOVER_WHITE_CARD = new Image("images/gameover-text-white.png", GameStage.WINDOW_WIDTH*0.95, 200, true, true);
-	final static Image GAMEOVER_BLACK_CARD = new Image("images/gameover-text-black.png", GameStage.WINDOW_WIDTH*0.95, 200, true, true);
+	final static Image TITLE_CARD = AssetManager.getPreloaded(AssetManager.TITLE_CARD);
+	final static Image WIN_CARD = AssetManager.getPreloaded(AssetManager.WIN_CARD);
+	final static Image LOSE_CARD = AssetManager.getPreloaded(AssetManager.LOSE_CARD);
+	final static Image GAMEOVER_WHITE_CARD = AssetManager.getPreloaded(AssetManager.GAMEOVER_WHITE_CARD);
+	final static Image GAMEOVER_BLACK_CARD = AssetManager.getPreloaded(AssetManager.GAMEOVER_BLACK_CARD);
 	
 	//Icons
-	final static Image TIMER_ICON = new Image("images/clock-image.png",25, 25, true, false);
-	final static Image FROZEN_TIMER_ICON = new Image("images/frozen-clock-image.png",25, 25, true, true);
-	final static Image SCORE_ICON = new Image("images/score-image.png",25, 25, true, true);
-	final static Image STRENGTH_ICON = new Image("images/strength-image.png",25, 25, true, true);
-	final static Image IMMORTAL_ICON = new Image("images/immortal-strength-image.png",25, 25, true, true);
+	final static Image TIMER_ICON = AssetManager.getPreloaded(AssetManager.TIMER_ICON);
+	final static Image FROZEN_TIMER_ICON = AssetManager.getPreloaded(AssetManager.FROZEN_TIMER_ICON);
+	final static Image SCORE_ICON = AssetManager.getPreloaded(AssetManager.SCORE_ICON);
+	final static Image STRENGTH_ICON = AssetManager.getPreloaded(AssetManager.STRENGTH_ICON);
+	final static Image IMMORTAL_ICON = AssetManager.getPreloaded(AssetManager.IMMORTAL_ICON);
+	
+	//Sprites
+	final static Image CUPID_IMAGE = AssetManager.getPreloaded(AssetManager.CUPID_IMAGE);
+	final static Image GLOWING_CUPID_IMAGE = AssetManager.getPreloaded(AssetManager.GLOWING_CUPID_IMAGE);
+	final static Image ARROW_IMAGE = AssetManager.getPreloaded(AssetManager.ARROW_IMAGE);
+	final static Image MALE_HUMAN_IMAGE = AssetManager.getPreloaded(AssetManager.MALE_HUMAN_IMAGE);
+	final static Image FEMALE_HUMAN_IMAGE = AssetManager.getPreloaded(AssetManager.FEMALE_HUMAN_IMAGE);
+	final static Image FEMALE_BOSS = AssetManager.getPreloaded(AssetManager.FEMALE_BOSS);
+	final static Image MALE_BOSS = AssetManager.getPreloaded(AssetManager.MALE_BOSS);
+	
+	//Power-ups
+	final static Image HEART_IMAGE = AssetManager.getPreloaded(AssetManager.HEART_IMAGE);
+	final static Image WINGS_IMAGE = AssetManager.getPreloaded(AssetManager.WINGS_IMAGE);
+	final static Image BW_WINGS = AssetManager.getPreloaded(AssetManager.BW_WINGS);
+	final static Image DOLPHIN_IMAGE = AssetManager.getPreloaded(AssetManager.DOLPHIN_IMAGE);
+	final static Image BW_DOLPHIN = AssetManager.getPreloaded(AssetManager.BW_DOLPHIN);
+	final static Image AUTOPILOT_IMAGE = AssetManager.getPreloaded(AssetManager.AUTOPILOT_IMAGE);
+	final static Image BW_AUTOPILOT = AssetManager.getPreloaded(AssetManager.BW_AUTOPILOT);
+	final static Image SNOWFLAKE_IMAGE = AssetManager.getPreloaded(AssetManager.SNOWFLAKE_IMAGE);
+	final static Image BW_SNOWFLAKE = AssetManager.getPreloaded(AssetManager.BW_SNOWFLAKE);
+	
+	//Sprite atlas (the images of the sprites above, packed in one image that the game is drawn from; the menus still use the images)
+	final static SpriteAtlas SPRITE_ATLAS = new SpriteAtlas(512, 512);
+	final static AtlasRegion CUPID_REGION = GameStage.SPRITE_ATLAS.add(GameStage.CUPID_IMAGE);
+	final static AtlasRegion GLOWING_CUPID_REGION = GameStage.SPRITE_ATLAS.add(GameStage.GLOWING_CUPID_IMAGE);
+	final static AtlasRegion ARROW_REGION = GameStage.SPRITE_ATLAS.add(GameStage.ARROW_IMAGE);
+	final static AtlasRegion MALE_HUMAN_REGION = GameStage.SPRITE_ATLAS.add(GameStage.MALE_HUMAN_IMAGE);
+	final static AtlasRegion FEMALE_HUMAN_REGION = GameStage.SPRITE_ATLAS.add(GameStage.FEMALE_HUMAN_IMAGE);
+	final static AtlasRegion FEMALE_BOSS_REGION = GameStage.SPRITE_ATLAS.add(GameStage.FEMALE_BOSS);
+	final static AtlasRegion MALE_BOSS_REGION = GameStage.SPRITE_ATLAS.add(GameStage.MALE_BOSS);
+	final static AtlasRegion HEART_REGION = GameStage.SPRITE_ATLAS.add(GameStage.HEART_IMAGE);
+	final static AtlasRegion WINGS_REGION = GameStage.SPRITE_ATLAS.add(GameStage.WINGS_IMAGE);
+	final static AtlasRegion DOLPHIN_REGION = GameStage.SPRITE_ATLAS.add(GameStage.DOLPHIN_IMAGE);
+	final static AtlasRegion AUTOPILOT_REGION = GameStage.SPRITE_ATLAS.add(GameStage.AUTOPILOT_IMAGE);
+	final static AtlasRegion SNOWFLAKE_REGION = GameStage.SPRITE_ATLAS.add(GameStage.SNOWFLAKE_IMAGE);
 	
 	//Buttons
-	final static Image NEW_GAME_BUTTON = new Image("images/new-game-btn.png", GameStage.WINDOW_WIDTH*0.25, 250, true, true);
-	final static Image HOVERED_NEW_GAME_BUTTON = new Image("images/hovered-new-game-btn.png", GameStage.WINDOW_WIDTH*0.25, 250, true, true);
-	final static Image HOW_TO_PLAY_BUTTON = new Image("images/how-to-play-btn.png", GameStage.WINDOW_WIDTH*0.25, 250, true, true);
-	final static Image HOVERED_HOW_TO_PLAY_BUTTON = new Image("images/hovered-how-to-play-btn.png", GameStage.WINDOW_WIDTH*0.25, 250, true, true);
-	final static Image ABOUT_BUTTON = new Image("images/about-btn.png", GameStage.WINDOW_WIDTH*0.25, 250, true, true);
-	final static Image HOVERED_ABOUT_BUTTON = new Image("images/hovered-about-btn.png", GameStage.WINDOW_WIDTH*0.25, 250, true, true);
-	final static Image EXIT_BUTTON = new Image("images/exit-btn.png", GameStage.WINDOW_WIDTH*0.25, 250, true, true);
-	final static Image HOVERED_EXIT_BUTTON = new Image("images/hovered-exit-btn.png", GameStage.WINDOW_WIDTH*0.25, 250, true, true);
-	final static Image MAIN_MENU_BUTTON = new Image("images/main-menu-btn.png", GameStage.WINDOW_WIDTH*0.25, 250, true, true);
-	final static Image HOVERED_MAIN_MENU_BUTTON = new Image("images/hovered-main-menu-btn.png", GameStage.WINDOW_WIDTH*0.25, 250, true, true);
-	final static Image PAUSE_BUTTON = new Image("images/pause-btn.png", 25, 25, true, false);
-	final static Image HOVERED_PAUSE_BUTTON = new Image("images/hovered-pause-btn.png", 25, 25, true, false);
-	final static Image PLAY_BUTTON = new Image("images/play-btn.png", 25, 25, true, false);
-	final static Image HOVERED_PLAY_BUTTON = new Image("images/hovered-play-btn.png", 25, 25, true, false);
-	final static Image HOME_BUTTON = new Image("images/home-btn.png", 25, 25, true, false);
-	final static Image HOVERED_HOME_BUTTON = new Image("images/hovered-home-btn.png", 25, 25, true, false);
-	final static Image CIRCLE_HOME_BUTTON = new Image("images/home-btn-2.png", 50, 50, true, true);
-	final static Image CIRCLE_HOVERED_HOME_BUTTON = new Image("images/hovered-home-btn-2.png", 50, 50, true, true);
+	final static Image NEW_GAME_BUTTON = AssetManager.getPreloaded(AssetManager.NEW_GAME_BUTTON);
+	final static Image HOVERED_NEW_GAME_BUTTON = AssetManager.getPreloaded(AssetManager.HOVERED_NEW_GAME_BUTTON);
+	final static Image HOW_TO_PLAY_BUTTON = AssetManager.getPreloaded(AssetManager.HOW_TO_PLAY_BUTTON);
+	final static Image HOVERED_HOW_TO_PLAY_BUTTON = AssetManager.getPreloaded(AssetManager.HOVERED_HOW_TO_PLAY_BUTTON);
+	final static Image ABOUT_BUTTON = AssetManager.getPreloaded(AssetManager.ABOUT_BUTTON);
+	final static Image HOVERED_ABOUT_BUTTON = AssetManager.getPreloaded(AssetManager.HOVERED_ABOUT_BUTTON);
+	final static Image EXIT_BUTTON = AssetManager.getPreloaded(AssetManager.EXIT_BUTTON);
+	final static Image HOVERED_EXIT_BUTTON = AssetManager.getPreloaded(AssetManager.HOVERED_EXIT_BUTTON);
+	final static Image MAIN_MENU_BUTTON = AssetManager.getPreloaded(AssetManager.MAIN_MENU_BUTTON);
+	final static Image HOVERED_MAIN_MENU_BUTTON = AssetManager.getPreloaded(AssetManager.HOVERED_MAIN_MENU_BUTTON);
+	final static Image PAUSE_BUTTON = AssetManager.getPreloaded(AssetManager.PAUSE_BUTTON);
+	final static Image HOVERED_PAUSE_BUTTON = AssetManager.getPreloaded(AssetManager.HOVERED_PAUSE_BUTTON);
+	final static Image PLAY_BUTTON = AssetManager.getPreloaded(AssetManager.PLAY_BUTTON);
+	final static Image HOVERED_PLAY_BUTTON = AssetManager.getPreloaded(AssetManager.HOVERED_PLAY_BUTTON);
+	final static Image HOME_BUTTON = AssetManager.getPreloaded(AssetManager.HOME_BUTTON);
+	final static Image HOVERED_HOME_BUTTON = AssetManager.getPreloaded(AssetManager.HOVERED_HOME_BUTTON);
+	final static Image CIRCLE_HOME_BUTTON = AssetManager.getPreloaded(AssetManager.CIRCLE_HOME_BUTTON);
+	final static Image CIRCLE_HOVERED_HOME_BUTTON = AssetManager.getPreloaded(AssetManager.CIRCLE_HOVERED_HOME_BUTTON);
 	
 	//Fonts
 	private final static Font TITLE_FONT = Font.font("Avenir", FontWeight.BLACK, 60);
@@ -111,20 +146,26 @@ public class GameStage {
 	private final static Font STANDARD_FONT = Font.font("Avenir", FontWeight.NORMAL, 16);
 	private final static Font SUBSTANDARD_FONT = Font.font("Avenir", FontWeight.NORMAL, 15);
 	private final static Font BUTTON_FONT = Font.font("Avenir", FontWeight.NORMAL, 13);
+	final static Font SPRITE_FONT = Font.font("Microsoft Sans Serif", FontWeight.BOLD, 12);
+	
+	//Digits of the health/strength drawn over the sprites (drawn once, like the sprite atlas, and used by every game)
+	final static DigitAtlas SPRITE_DIGITS = new DigitAtlas(GameStage.SPRITE_FONT, Color.WHITE);
 	
 	
 	//the class constructor
 	public GameStage() {
 		this.root = new Group();
 		this.gameScene = new Scene(root, GameStage.WINDOW_WIDTH,GameStage.WINDOW_HEIGHT);	
-		this.canvas = new Canvas(GameStage.WINDOW_WIDTH,GameStage.WINDOW_HEIGHT);	
-		this.gc = canvas.getGraphicsContext2D();
+		this.layers = new GameLayers();
 		
 		this.howToCanvas = new Canvas(GameStage.WINDOW_WIDTH-100,GameStage.WINDOW_HEIGHT);	
 		this.howToGc = howToCanvas.getGraphicsContext2D();
 		
 		this.aboutCanvas = new Canvas(GameStage.WINDOW_WIDTH-80,GameStage.WINDOW_HEIGHT);	
 		this.aboutGc = aboutCanvas.getGraphicsContext2D();
+		
+		this.profiler = new FrameProfiler();
+		this.profiler.writeCsvOnExit(System.getProperty(FrameProfiler.CSV_PROPERTY));
 	}
 	
 	
@@ -404,16 +445,21 @@ public class GameStage {
 	private void newGame(Stage stage) {
 		
 		if(this.root.getChildren() != null) {						//checks if a game has been launched previously
-			this.root.getChildren().removeAll(this.canvas);			//removes all nodes in root
+			this.root.getChildren().removeAll(this.layers.getNodes());	//removes all nodes in root
 			
-			//Instantiate new root, scene, canvas, gc, and gametimer for the new game
+			//Instantiate new root, scene, layers, and gametimer for the new game
 			this.root = new Group();
 			this.gameScene = new Scene(root, GameStage.WINDOW_WIDTH,GameStage.WINDOW_HEIGHT);	
-			this.canvas = new Canvas(GameStage.WINDOW_WIDTH,GameStage.WINDOW_HEIGHT);	
-			this.gc = canvas.getGraphicsContext2D();
+			this.layers = new GameLayers();
 		}
+		//wait for the simulation thread of the previous game to end, so only one thread records into the profiler
+		if(this.gametimer != null) {
+			this.gametimer.stop();
+			this.gametimer.awaitEnd();
+		}
+		
 		//instantiate an animation timer
-		this.gametimer = new GameTimer(this.gc,this.gameScene, this);
+		this.gametimer = new GameTimer(this.layers,this.gameScene, this, this.profiler);
 		this.stage = stage;
 		
 		ImageView pause = new ImageView();
@@ -499,7 +545,8 @@ public class GameStage {
 			}
 		});
 		
-		this.root.getChildren().addAll(this.canvas, pause, play, home);
+		this.root.getChildren().addAll(this.layers.getNodes());			//background, sprites and status bar, from the back to the front
+		this.root.getChildren().addAll(pause, play, home);
 			
 		this.stage.setTitle("Stup!d Cup¡d");						//game title
 		this.stage.setScene(this.gameScene);						//set the stage scene to game scene
@@ -677,8 +724,8 @@ public class GameStage {
 		root.setAlignment(Pos.BOTTOM_LEFT);
 		
 		ImageView newGame = new ImageView();
-		Image buttonImage = new Image("images/new-game-btn.png", 100, 250, true, true);
-		Image hoveredBtn = new Image("images/hovered-new-game-btn.png", 100, 250, true, true);
+		Image buttonImage = AssetManager.get("images/new-game-btn.png", 100, 250, true, true);
+		Image hoveredBtn = AssetManager.get("images/hovered-new-game-btn.png", 100, 250, true, true);
 		
 		newGame.setImage(buttonImage);	
 		newGame.setLayoutX(0);
@@ -720,10 +767,10 @@ public class GameStage {
 	private void howToHome() {
 		GraphicsContext gc = this.howToGc;
 		
-		Image cupid = Cupid.CUPID_IMAGE;
-		Image arrow = Arrow.ARROW_IMAGE;
-		Image fhuman = Human.FEMALE_HUMAN_IMAGE;
-		Image mhuman = Human.MALE_HUMAN_IMAGE;
+		Image cupid = GameStage.CUPID_IMAGE;
+		Image arrow = GameStage.ARROW_IMAGE;
+		Image fhuman = GameStage.FEMALE_HUMAN_IMAGE;
+		Image mhuman = GameStage.MALE_HUMAN_IMAGE;
 		
 		Random r = new Random();
 		Random s = new Random();
@@ -751,7 +798,7 @@ public class GameStage {
 		gc.setFill(Color.BLACK);
 		gc.fillText(title, 150, 70);
 		
-		gc.setFont(Cupid.DEFAULT_FONT);
+		gc.setFont(GameStage.SPRITE_FONT);
 		gc.setFill(Color.BLACK);
 		gc.fillText(strength + "", 27, 406);
 		gc.fillText((s.nextInt(11)+30) + "",(x1+20) , 400);
@@ -771,14 +818,14 @@ public class GameStage {
 	private void howToGameplay() {
 		GraphicsContext gc = this.howToGc;
 		
-		Image heart = new Image("images/heart.png", 30, 30, true, true);
-		Image timer = new Image("images/clock-image.png",40, 40, true, true);
-		Image score =  new Image("images/score-image.png",40, 40, true, true);;
-		Image health =  new Image("images/strength-image.png",40, 40, true, true);;
-		Image cupid = Cupid.CUPID_IMAGE;
-		Image fhuman = Human.FEMALE_HUMAN_IMAGE;
-		Image mhuman = Human.MALE_HUMAN_IMAGE;
-		Image arrow = Arrow.ARROW_IMAGE;
+		Image heart = AssetManager.get("images/heart.png", 30, 30, true, true);
+		Image timer = AssetManager.get("images/clock-image.png",40, 40, true, true);
+		Image score = AssetManager.get("images/score-image.png",40, 40, true, true);
+		Image health = AssetManager.get("images/strength-image.png",40, 40, true, true);
+		Image cupid = GameStage.CUPID_IMAGE;
+		Image fhuman = GameStage.FEMALE_HUMAN_IMAGE;
+		Image mhuman = GameStage.MALE_HUMAN_IMAGE;
+		Image arrow = GameStage.ARROW_IMAGE;
 		
 		Random r = new Random();
 		Random s = new Random();
@@ -821,7 +868,7 @@ public class GameStage {
 		gc.setFill(Color.BLACK);
 		gc.fillText(title, 30, 60);
 		
-		gc.setFont(Cupid.DEFAULT_FONT);
+		gc.setFont(GameStage.SPRITE_FONT);
 		gc.setFill(Color.BLACK);
 		gc.fillText(strength + "", 27, 116);
 		gc.fillText((s.nextInt(11)+30) + "",(x1+20) , 110);
@@ -871,10 +918,10 @@ public class GameStage {
 	private void howToCupid() {
 		GraphicsContext gc = this.howToGc;
 		
-		Image cupid = new Image("images/cupid.png",120,120,true,true);
-		Image arrow = new Image("images/arrow.png", 70, 70, true, true);
-		Image keys = new Image("images/keys.png", 256, 80, true, true);
-		Image spacebar = new Image("images/spacebar.png", 256, 80, true, true);
+		Image cupid = AssetManager.get("images/cupid.png",120,120,true,true);
+		Image arrow = AssetManager.get("images/arrow.png", 70, 70, true, true);
+		Image keys = AssetManager.get("images/keys.png", 256, 80, true, true);
+		Image spacebar = AssetManager.get("images/spacebar.png", 256, 80, true, true);
 		
 		Random r = new Random();
 		
@@ -919,12 +966,12 @@ public class GameStage {
 	private void howToHuman() {
 		GraphicsContext gc = this.howToGc;
 		
-		Image human1 = new Image("images/male-human.png",120,120,true,true);
-		Image human2 = new Image("images/female-human.png",120,120,true,true);
-		Image cupid = Cupid.CUPID_IMAGE;
-		Image arrow = Arrow.ARROW_IMAGE;
-		Image fhuman = Human.FEMALE_HUMAN_IMAGE;
-		Image mhuman = Human.MALE_HUMAN_IMAGE;
+		Image human1 = AssetManager.get("images/male-human.png",120,120,true,true);
+		Image human2 = AssetManager.get("images/female-human.png",120,120,true,true);
+		Image cupid = GameStage.CUPID_IMAGE;
+		Image arrow = GameStage.ARROW_IMAGE;
+		Image fhuman = GameStage.FEMALE_HUMAN_IMAGE;
+		Image mhuman = GameStage.MALE_HUMAN_IMAGE;
 		
 		Random r = new Random();
 		Random s = new Random();
@@ -966,7 +1013,7 @@ public class GameStage {
 		gc.fillText(s2, 20, 200);
 		gc.fillText(s3, 20, 335);
 		
-		gc.setFont(Cupid.DEFAULT_FONT);
+		gc.setFont(GameStage.SPRITE_FONT);
 		gc.setFill(Color.BLACK);
 		gc.fillText(strength +"", 27, 236);
 		gc.fillText("0", 365, 230);
@@ -990,11 +1037,11 @@ public class GameStage {
 	//method that modifies the howToGc to show the powerup page of the how to play screen
 	private void howToPowerUp() {
 		GraphicsContext gc = this.howToGc;
-		Image pup1 = new Image("images/heart.png", 60, 60, true, true);
-		Image pup2 = new Image("images/wings.png", 60, 60, true, true);
-		Image pup3 = new Image("images/dolphin.png", 60, 60, true, true);
-		Image pup4 = new Image("images/autopilot.png", 60, 60, true, true);
-		Image pup5 = new Image("images/snowflake.png", 60, 60, true, true);
+		Image pup1 = AssetManager.get("images/heart.png", 60, 60, true, true);
+		Image pup2 = AssetManager.get("images/wings.png", 60, 60, true, true);
+		Image pup3 = AssetManager.get("images/dolphin.png", 60, 60, true, true);
+		Image pup4 = AssetManager.get("images/autopilot.png", 60, 60, true, true);
+		Image pup5 = AssetManager.get("images/snowflake.png", 60, 60, true, true);
 		
 		String title = "Power-Ups";
 		String s1 = "Power-ups are items Cupid can collect in the game that\nchanges Cupid's stats depending on the type. Power-ups\nare spawned every 10 seconds and disappear when\nuncollected for five seconds.";
@@ -1053,14 +1100,14 @@ public class GameStage {
 	private void howToBoss() {
 		GraphicsContext gc = this.howToGc;
 		
-		Image human1 = new Image("images/boss-male.png",120,120,true,true);
-		Image human2 = new Image("images/boss-female.png",120,120,true,true);
-		Image human3 = new Image("images/boss-male.png",150,150,true,true);
-		Image human4 = new Image("images/boss-female.png",150,150,true,true);
-		Image human5 = Human.FEMALE_HUMAN_IMAGE;
-		Image human6 = Human.MALE_HUMAN_IMAGE;
+		Image human1 = AssetManager.get("images/boss-male.png",120,120,true,true);
+		Image human2 = AssetManager.get("images/boss-female.png",120,120,true,true);
+		Image human3 = AssetManager.get("images/boss-male.png",150,150,true,true);
+		Image human4 = AssetManager.get("images/boss-female.png",150,150,true,true);
+		Image human5 = GameStage.FEMALE_HUMAN_IMAGE;
+		Image human6 = GameStage.MALE_HUMAN_IMAGE;
 		
-		Image cupid = Cupid.CUPID_IMAGE;
+		Image cupid = GameStage.CUPID_IMAGE;
 		
 		Random a = new Random();
 		boolean b = a.nextBoolean();
@@ -1095,7 +1142,7 @@ public class GameStage {
 		gc.fillText(s2, 20, 220);
 		
 		
-		gc.setFont(Cupid.DEFAULT_FONT);
+		gc.setFont(GameStage.SPRITE_FONT);
 		gc.setFill(Color.BLACK);
 		gc.fillText("150", 27, 356);
 		gc.fillText("50", 250, 300);
@@ -1189,9 +1236,9 @@ public class GameStage {
 	private void aboutHome() {
 		GraphicsContext gc = this.aboutGc;
 		
-		Image me1 = new Image("images/me1.png", 227, 170, true, true);
-		Image me2 = new Image("images/me2.png", 227, 170, true, true);
-		Image me3 = new Image("images/me3.png", 227, 170, true, true);
+		Image me1 = AssetManager.get("images/me1.png", 227, 170, true, true);
+		Image me2 = AssetManager.get("images/me2.png", 227, 170, true, true);
+		Image me3 = AssetManager.get("images/me3.png", 227, 170, true, true);
 		
 		String title = "About the Developer";
 		String name = "Rhys Allen Abejay";
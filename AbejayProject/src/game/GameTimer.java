@@ -1,18 +1,14 @@
 	/***********************************************************	* 
 	* This class inherits from the AnimationTimer class, and
-	* is responsible for the game itself.
+	* is responsible for running the game on the screen.
 	* 
 	* This class is responsible for the following:
-	* 	- Tracking the Cupid's current strength and score
-	* 	- Tracking the current time elapsed in the game
-	* 	- Tracking the power-ups collected by Cupid
-	* 	- Tracking if the game is over (cupid is strength is 0 or 60 seconds has passed)
-	* 	- Spawning the Humans (initially and in 5 second intervals)
-	* 	- Spawning power-ups (in 10 second itnervals)
-	* 	- Moving the sprites (Humans, Cupid, and Arrows)
-	* 	= Rendering the sprite images (Humans, Cupid, Arrows)
-	* 	- Monitor the effectivity of collected power-ups
-	* 	- Check the collision of sprites (Cupid-Human, Arrow-Human, Cupid-Power-up)
+	* 	- Starting the Simulation, which steps the GameWorld (the rules of the game) at a fixed tick rate on its own thread
+	* 	- Showing the game over screen when the GameWorld is over
+	* 	- Drawing the scrolling background and the game status bar
+	* 	= Rendering the sprite images (Humans, Cupid, Arrows, Power-ups) from the latest snapshot of the world
+	* 	- Handing the key presses that move Cupid and shoot arrows over to the Simulation
+	* 	- Timing the phases of every frame, shown in a debug overlay (F3)
 	*
 	* @author Rhys Allen Abejay
 	* @created_date 2022-05-17 14:54
@@ -20,8 +16,9 @@
 
 package game;
 
-import java.util.ArrayList;
-import java.util.Random;
+import java.io.IOException;
+import java.nio.file.Paths;
+
 import javafx.animation.AnimationTimer;
 import javafx.event.EventHandler;
 import javafx.scene.Scene;
@@ -32,7 +29,6 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.util.Duration;
 import javafx.scene.paint.Color;
-import java.util.concurrent.TimeUnit;
 import javafx.animation.PauseTransition;
 import javafx.event.ActionEvent;
 
@@ -42,85 +38,92 @@ import javafx.event.ActionEvent;
  
 class GameTimer extends AnimationTimer{
 	private GameStage theGame;
-	private GraphicsContext gc;
+	private GameLayers layers;						//background, sprite and HUD layers of the game scene
+	private GraphicsContext gc;						//graphics context of the sprite layer
 	private Scene theScene;
-	private Cupid myCupid;
-	private ArrayList<Human> humans;
-	private ArrayList <PowerUp> powerUps;
-	
-	private long startGame;							//attribute that stores the time when the game starts
-	private long realStart;							//attribute that stores the time when the game starts, includes the time it is frozen (effect of snowflake powerup)
-	
-	private int spawnedHumans = 0;					//attribute for the number of humans spawned every 5 seconds
-	private int spawnedBoss = 0;					//attribute for the number of boss spawned when 30-second mark is reached
-	private int spawnedPowerUps = 0;				//attribute for the number of power-ups spawned every 10 seconds
-	private int spawnedLackeys = 0;					//attribute for the number of lackeys spawned every 5 seconds
-	
-	//attributes for collected power-ups
-	private int collectedHearts = 0;
-	private int collectedWings = 0;
-	private int collectedDolphins = 0;
-	private int collectedAutopilots = 0;
-	private int collectedSnowflakes = 0;
-	
-	private long wingsTime;
-	private long dolphinTime;
-	private long autopilotTime;
-	private long snowflakeTime;
-	private long pauseTimestamp;
-	private long bossTimestamp;
-	
-	private boolean hasWings;
-	private boolean hasDolphin;
-	private boolean hasBoss;
-	private boolean hasAutopilot;
-	private boolean hasSnowflake;
+	private Simulation simulation;					//runs the world that holds cupid, the humans and the power-ups, on its own thread
+	private SnapshotExchange snapshots;				//snapshots of the world published by the simulation
+	private WorldSnapshot snapshot;					//snapshot drawn in the current frame
 	
 	private double backgroundX;						
 	
-	//Class constants
-	private final static int INIT_NUM_HUMANS = 7;		//constant for the initial number of humans spawned
-	private final static int NEW_NUM_HUMANS = 3;		//constant for the maximum number of humans spawned every 5 seconds
-	private final static int NUM_LACKEYS = 3;			//constant for the maximum number of lackeys spawned every 5 seconds (while boss is alive)
-	
-	private final static int MAX_POWER_UPS = 1;			//constant for the maximum number of power-ups spawned every 10 seconds
-	private final static int MAX_NUM_BOSS = 1;			//constant for the maximum number of boss spawned when 30-second mark is reached
+	private long lastPulse;							//attribute that stores the time of the previous frame (0 when the timer is just started)
+	private double alpha;							//attribute for how far (0 to 1) the screen is between the last two ticks
 	
-	private final static int GAME_DURATION = 60;		//constant for the time the game runs
-	private final static int SPAWN_NEW_HUMANS = 5;		//constant for the time interval where new humans are spawned
-	private final static int SPAWN_BOSS = 30;			//constant for the time elapsed when a boss should be spawned
-	private final static int SPAWN_LACKEYS = 5;			//constant for the time interval when lackeys should be spawned
+	private StatusBar statusBar;					//status bar drawn above the game
+	private DigitAtlas digits;						//digits used to draw the health/strength over the sprites
+	private SpriteBatch batch;						//sprites of the frame, drawn together grouped by image
+	private boolean dirtyRectangles;				//whether only the parts of the sprite canvas that changed are repainted (dirty-rectangle mode)
+	private DirtyRects dirty;						//parts of the sprite canvas to repaint in the frame (dirty-rectangle mode)
+	private boolean repaintAll;						//whether the next frame repaints the whole sprite canvas (dirty-rectangle mode)
+	private FrameProfiler profiler;
+	private boolean showProfile;					//whether the debug overlay with the frame times is shown
+	private String[] profileLines;					//lines of the debug overlay (updated every PROFILE_REFRESH frames, so the text can be read)
+	private int profileFrames;						//frames since the lines of the debug overlay were updated
 	
+	//Class constants
 	final static int WIN_GAME = 1;						//constant for a winning game
 	final static int LOSE_GAME = 0;						//constant for a losing game
 	final static int GAME_STATUS_BAR_HEIGHT = 25;
 	
-	private final static double BACKGROUND_SPEED = 0.8;
+	private final static double BACKGROUND_SPEED = 0.8;				//background scroll per 1/60 of a second
+	private final static double FRAME_TIME = 1000000000.0 / 60;		//constant for the length of the 1/60-second frame the speeds are tuned for
+	
+	private final static String TICK_RATE_PROPERTY = "cupid.tickRate";	//system property for the tick rate, e.g. -Dcupid.tickRate=30 on slow machines
+	private final static String CROWD_PROPERTY = "cupid.crowd";			//system property for the stress mode, e.g. -Dcupid.crowd=10000 spawns 10000 extra humans
+	private final static String DIRTY_RECTS_PROPERTY = "cupid.dirtyRects";	//system property for the dirty-rectangle mode, -Dcupid.dirtyRects=true
+	private final static String SEED_PROPERTY = "cupid.seed";				//system property for the seed of the game, e.g. -Dcupid.seed=42 to play a logged seed again
+	private final static String RECORD_PROPERTY = "cupid.record";			//system property for the file the game is recorded to, e.g. -Dcupid.record=game.cupr
+	private final static String ARCHIVE_PROPERTY = "cupid.archive";			//system property for the archive the game is added to, e.g. -Dcupid.archive=kiosk.cupa
+	private final static String REPLAY_PROPERTY = "cupid.replay";			//system property for a recorded game to watch instead of playing, e.g. -Dcupid.replay=game.cupr
 	
-	private final static Font DEFAULT_FONT = Font.font("Microsoft Sans Serif", FontWeight.NORMAL, 16);
+	final static Font DEFAULT_FONT = Font.font("Microsoft Sans Serif", FontWeight.NORMAL, 16);
 	
+	private final static KeyCode PROFILE_KEY = KeyCode.F3;							//key that shows/hides the debug overlay
+	private final static int PROFILE_REFRESH = 30;									//number of frames between updates of the debug overlay
+	private final static Font PROFILE_FONT = Font.font("Monospaced", FontWeight.NORMAL, 11);
+	private final static Color PROFILE_BACKGROUND = Color.rgb(0, 0, 0, 0.6);
 	
-	GameTimer(GraphicsContext gc, Scene theScene, GameStage game){
-		this.gc = gc;
+	
+	GameTimer(GameLayers layers, Scene theScene, GameStage game, FrameProfiler profiler){
+		this.layers = layers;
+		this.gc = layers.getSprites().getGraphicsContext2D();
 		this.theScene = theScene;
 		this.theGame = game;
+		this.profiler = profiler;
+		this.profileLines = new String[FrameProfiler.PHASE_NAMES.length + 1];
+		
+		//instantiate the world that holds cupid, the humans and the power-ups (spawns 7 humans)
+		int tickRate = Integer.getInteger(GameTimer.TICK_RATE_PROPERTY, GameWorld.DEFAULT_TICK_RATE);
+		int crowdSize = Integer.getInteger(GameTimer.CROWD_PROPERTY, 0);
+		long seed = Long.getLong(GameTimer.SEED_PROPERTY, GameRandom.newSeed());
+		Replay replay = GameTimer.readReplay(System.getProperty(GameTimer.REPLAY_PROPERTY));
+		
+		GameWorld world;
+		if(replay != null) {
+			world = replay.newWorld();							//the recorded game, with its own seed, tick rate and crowd
+		}else {
+			world = new GameWorld(tickRate, crowdSize, seed);
+		}
+		world.setProfiler(this.profiler);
+		this.snapshots = new SnapshotExchange(world, System.nanoTime());
+		this.simulation = new Simulation(world, this.snapshots, this.profiler);
 		
-		this.hasWings = false;
-		this.hasDolphin = false;
-		
-		Random r = new Random();
-		int rangeY = (GameStage.WINDOW_HEIGHT-Cupid.CUPID_WIDTH)-GameTimer.GAME_STATUS_BAR_HEIGHT;
-		int y = r.nextInt((rangeY)+1) + GameTimer.GAME_STATUS_BAR_HEIGHT;
-		this.myCupid = new Cupid("Eros",10,y);
-		
-		//instantiate the ArrayList of Human
-		this.humans = new ArrayList<Human>();
-		
-		//instantiate the ArrayList of PowerUp
-		this.powerUps = new ArrayList<PowerUp>();
+		String recordFile = System.getProperty(GameTimer.RECORD_PROPERTY);
+		String archiveFile = System.getProperty(GameTimer.ARCHIVE_PROPERTY);
+		if(replay != null) {
+			this.simulation.playBack(replay);
+		}else if(recordFile != null || archiveFile != null) {
+			this.simulation.record(new Replay(seed, tickRate, crowdSize, archiveFile != null),
+					recordFile == null ? null : Paths.get(recordFile), archiveFile == null ? null : Paths.get(archiveFile));
+		}
 		
-		//call the spawnHumans method (spawns 7 humans)
-		this.spawnHumans();
+		this.statusBar = new StatusBar(this.layers.getHud());
+		this.digits = GameStage.SPRITE_DIGITS;
+		this.batch = new SpriteBatch();
+		this.dirtyRectangles = Boolean.getBoolean(GameTimer.DIRTY_RECTS_PROPERTY);
+		this.dirty = new DirtyRects(GameStage.WINDOW_WIDTH, GameStage.WINDOW_HEIGHT);
+		this.repaintAll = true;
 		
 		//call method to handle mouse click event
 		this.handleKeyPressEvent();	
@@ -129,252 +132,148 @@ class GameTimer extends AnimationTimer{
 	
 	@Override
 	public void handle(long currentNanoTime) {
-		this.initScreen(currentNanoTime);
-		this.monitorPowerUps(currentNanoTime);
+		this.profiler.begin(FrameProfiler.FRAME);
+		long frameTime = this.frameTime(currentNanoTime);
+		
+		this.snapshot = this.snapshots.latest();				//the world is only read through the latest snapshot published by the simulation
+		this.alpha = this.snapshot.getAlpha(currentNanoTime);
+		
+		this.isGameOver();
+		
+		this.profiler.begin(FrameProfiler.SCREEN);
+		this.initScreen(frameTime);
+		this.profiler.end(FrameProfiler.SCREEN);
+		
+		this.profiler.begin(FrameProfiler.SPRITES);
 		this.renderSprites();
-		this.moveSprites();
-		this.collidingSprites();
+		this.profiler.end(FrameProfiler.SPRITES);
+		
+		if(this.showProfile) {
+			this.drawProfile();
+		}
+		this.profiler.end(FrameProfiler.FRAME);
 	}
 	
 	
-	//method that initializes the game scene
-	private void initScreen(long currentNanoTime) {
-		this.redrawBg();
-		this.drawStatusBar(currentNanoTime);
-		this.isCupidDead();
-		this.isGameOver(currentNanoTime);
-		this.newHumans(currentNanoTime);
-		this.spawnBoss(currentNanoTime);
-		this.spawnPowerUps(currentNanoTime);
-		this.spawnLackeys(currentNanoTime);
+	//method that returns the time that has passed since the previous frame
+	private long frameTime(long currentNanoTime) {
+		if(this.lastPulse == 0) {						//first frame after the timer is started (or played after a pause)
+			this.lastPulse = currentNanoTime;
+		}
+		
+		long frameTime = currentNanoTime - this.lastPulse;
+		this.lastPulse = currentNanoTime;
+		return frameTime;
 	}
 	
 	
-	//method that monitors the power-ups in the game, both collected and not
-	synchronized private void monitorPowerUps(long currentNanoTime) {
-		this.monitorIdlePowerUps(currentNanoTime);
-		this.monitorWingsEffect(currentNanoTime);
-		this.monitorDolphinEffect(currentNanoTime);	
-		this.monitorAutopilotEffect(currentNanoTime);
-		this.monitorSnowflakeEffect(currentNanoTime);
+	//method that initializes the game scene
+	//the background and the status bar are layers of their own (see GameLayers), they are not drawn on the sprite canvas
+	private void initScreen(long frameTime) {
+		this.scrollBg(frameTime);
+		this.statusBar.update(this.snapshot);						//the status bar is only redrawn when what it shows has changed
 	}
 	
 	
 	//method that renders all the sprites in the game
+	//sprites are drawn alpha of the way between where they were at the previous tick and where they are now
+	//the render methods only add the sprites to the batch, which draws the atlas sprites first and then the digits over them
 	private void renderSprites() {
-		this.myCupid.render(this.gc);
+		this.renderCupid();
 		this.renderArrows();
 		this.renderHumans();
+		this.renderCrowd();
 		this.renderPowerUps();
-	}
-	
-	
-	//method that moves all the sprites in the game
-	private void moveSprites() {
-		this.myCupid.move();
-		this.moveArrows();
-		this.moveHumans();
-	}
-	
-	
-	//method that checks if the sprites collide in the game
-	synchronized private void collidingSprites() {
-		this.arrowHit();
-		this.humanHit();
-		this.collectPowerUp();
-	}
-	
-	
-	//ALL METHODS IN initScreen:
-
-	
-	//method that redraws the background image
-	//method is adapted from the Everwing sample
-	private void redrawBg() {
-		this.gc.clearRect(0, 0, GameStage.WINDOW_WIDTH,GameStage.WINDOW_HEIGHT);
-		this.gc.drawImage(GameStage.GAME_BG, 0, 0);
-		
-		this.backgroundX += GameTimer.BACKGROUND_SPEED;
-		this.gc.drawImage(GameStage.GAME_BG, this.backgroundX-GameStage.GAME_BG.getWidth(), 0);
-		this.gc.drawImage(GameStage.GAME_BG, this.backgroundX, 0);
 		
-		if(this.backgroundX >= GameStage.WINDOW_WIDTH) {
-			this.backgroundX = GameStage.WINDOW_WIDTH-GameStage.GAME_BG.getWidth();
-		}
-	}
-	
-
-	//method that draws/displays the game status/data on the scene
-	synchronized private void drawStatusBar(long currentNanoTime) {
-		this.gc.setFill(Color.STEELBLUE);
-		this.gc.fillRect(0, 0, GameStage.WINDOW_WIDTH, GameTimer.GAME_STATUS_BAR_HEIGHT);
-		
-		this.drawSpecialStats();
-		this.drawElapsedTime(currentNanoTime);
-		this.drawCurrentScore();
-		this.drawCurrentStrength();
-		this.drawCollectedPowerUps();		
-	}
-	
-	
-	//method to draw the elapsed time in the game
-	synchronized private void drawElapsedTime(long currentNanoTime) {
-		int runtime;
-		
-		if(this.hasSnowflake) {
-			this.gc.drawImage(GameStage.FROZEN_TIMER_ICON, 305, 0);
-			runtime = this.elapsedTime(this.snowflakeTime, this.realStart);			//the time shown will be the time when the game started up to the time the Cupid collected a snowflake
-		}else {
-			this.gc.drawImage(GameStage.TIMER_ICON, 305, 0);
-			runtime = this.elapsedTime(currentNanoTime, this.startGame);
-		}
-
-		this.gc.setFont(GameTimer.DEFAULT_FONT);
-		this.gc.setFill(Color.BLACK);
-		this.gc.fillText("Time: ", 335, 18);
-		
-		if(runtime < 10) {
-			this.gc.fillText("0:0"+ runtime, 380, 18);
-		}else if (runtime < 60 && runtime >= 10){
-			this.gc.fillText("0:"+ runtime, 380, 18);
-		}else if (runtime == 60){
-			this.gc.fillText("1:00", 380, 18);
-		}
-	}
-	
-	
-	//method to draw the current score of cupid
-	synchronized private void drawCurrentScore() {
-		this.gc.drawImage(GameStage.SCORE_ICON, 445, 0);
-		
-		this.gc.setFont(GameTimer.DEFAULT_FONT);
-		this.gc.setFill(Color.BLACK);
-		this.gc.fillText("Score: ", 475, 18);
-		this.gc.fillText(this.myCupid.getScore() + "", 525, 18);
-	}
-	
-	
-	//method to draw cupid's current strength
-	synchronized private void drawCurrentStrength() {
-		if(this.hasWings) {
-			this.gc.drawImage(GameStage.IMMORTAL_ICON, 570, 0);						//strength icon will change when the Cupid is immortal
+		if(this.dirtyRectangles) {
+			this.repaintChanges();
 		}else {
-			this.gc.drawImage(GameStage.STRENGTH_ICON, 570, 0);
+			this.gc.clearRect(0, 0, GameStage.WINDOW_WIDTH, GameStage.WINDOW_HEIGHT);
+			this.batch.flush(this.gc);
 		}
-		
-		this.gc.setFont(GameTimer.DEFAULT_FONT);
-		this.gc.setFill(Color.BLACK);
-		this.gc.fillText("Strength: ", 600, 18);
-		this.gc.fillText(this.myCupid.getStrength() + "", 665, 18);
 	}
 	
 	
-	//method to draw the running power-up cupid has
-	synchronized public void drawSpecialStats() {
+	//method that repaints only the parts of the sprite canvas that have changed since the previous frame (dirty-rectangle mode)
+	//a part is repainted by clearing it and drawing the sprites over it, cut to the part
+	//nothing is drawn if no sprite has moved, the whole canvas is drawn if too much has changed
+	private void repaintChanges() {
+		this.dirty.clear();
+		this.batch.addChanges(this.dirty);
 		
-		if(this.hasBoss) {															//text will be shown when there is a boss in the game
-			this.gc.setFont(GameTimer.DEFAULT_FONT);
-			this.gc.setFill(Color.BLACK);
-			this.gc.fillText("Frenzy", 125, 18);
-		}
-		
-		
-		//Images of power-ups will be drawn in the game
-		//if the power-up is active, the power-up image will be colored
-		//otherwise it will draw a black and white image
-		if(!this.hasWings) {
-			this.gc.drawImage(Wings.BW_WINGS, 190, 0, 25, 25);
-		}else {
-			this.gc.drawImage(Wings.WINGS_IMAGE, 190, 0, 25, 25);
+		if(this.repaintAll || this.showProfile || this.dirty.isFull()) {
+			this.repaintAll = false;
+			
+			this.gc.clearRect(0, 0, GameStage.WINDOW_WIDTH, GameStage.WINDOW_HEIGHT);
+			this.batch.flush(this.gc);
+			return;
 		}
 		
-		if(!this.hasDolphin) {
-			this.gc.drawImage(Dolphin.BW_DOLPHIN, 215, 0, 25, 25);
-		}else {
-			this.gc.drawImage(Dolphin.DOLPHIN_IMAGE, 215, 0, 25, 25);
+		if(this.dirty.isEmpty()) {
+			this.batch.skip();
+			return;
 		}
 		
-		if(!this.hasAutopilot) {
-			this.gc.drawImage(Autopilot.BW_AUTOPILOT, 240, 0, 25, 25);
-		}else {
-			this.gc.drawImage(Autopilot.AUTOPILOT_IMAGE, 240, 0, 25, 25);
-		}
+		this.gc.save();
+		this.dirty.clip(this.gc);
 		
-		if(!this.hasSnowflake) {
-			this.gc.drawImage(Snowflake.BW_SNOWFLAKE, 265, 0, 25, 25);
-		}else {
-			this.gc.drawImage(Snowflake.SNOWFLAKE_IMAGE, 265, 0, 25, 25);
+		for(int i = 0; i < this.dirty.size(); i++) {
+			this.gc.clearRect(this.dirty.getX(i), this.dirty.getY(i), this.dirty.getWidth(i), this.dirty.getHeight(i));
 		}
 		
+		this.batch.flush(this.gc, this.dirty);
+		this.gc.restore();
 	}
 	
 	
-	//method to draw all the power-ups cupid has collected in the game
-	synchronized public void drawCollectedPowerUps() {
-		int x = 720;
-		
-		for(int i = 0; i < this.collectedHearts; i++) {
-			this.gc.drawImage(Heart.HEART_IMAGE, x, 0, 25, 25);
-			x += 10;
-		}
+	//ALL METHODS IN initScreen:
+
+	
+	//method that scrolls the background image (moves the background layer, nothing is redrawn)
+	//method is adapted from the Everwing sample
+	private void scrollBg(long frameTime) {
+		this.backgroundX += GameTimer.BACKGROUND_SPEED * (frameTime / GameTimer.FRAME_TIME);
+		this.layers.scrollBackground(this.backgroundX);
 		
-		for(int i = 0; i < this.collectedWings; i++) {
-			this.gc.drawImage(Wings.WINGS_IMAGE, x, 0, 25, 25);
-			x += 10;
+		if(this.backgroundX >= GameStage.WINDOW_WIDTH) {
+			this.backgroundX = GameStage.WINDOW_WIDTH-GameStage.GAME_BG.getWidth();
 		}
-		
-		for(int i = 0; i < this.collectedDolphins; i++) {
-			this.gc.drawImage(Dolphin.DOLPHIN_IMAGE, x, 0, 25, 25);
-			x += 10;
+	}
+	
+
+	//method that draws the debug overlay under the status bar: p50/p99/max of every phase of the frame, in microseconds
+	//the lines are only updated every PROFILE_REFRESH frames (so the overlay does not build strings every frame)
+	private void drawProfile() {
+		if(this.profileFrames == 0) {
+			this.profileLines[0] = String.format("%-10s %8s %8s %8s", "phase", "p50", "p99", "max");
+			
+			for(int i = 0; i < FrameProfiler.PHASE_NAMES.length; i++) {
+				Histogram h = this.profiler.getHistogram(i);
+				this.profileLines[i + 1] = String.format("%-10s %8s %8s %8s", FrameProfiler.PHASE_NAMES[i],
+						FrameProfiler.micros(h.getPercentile(0.5)), FrameProfiler.micros(h.getPercentile(0.99)), FrameProfiler.micros(h.getMax()));
+			}
 		}
+		this.profileFrames = (this.profileFrames + 1) % GameTimer.PROFILE_REFRESH;
 		
-		for(int i = 0; i < this.collectedAutopilots; i++) {
-			this.gc.drawImage(Autopilot.AUTOPILOT_IMAGE, x, 0, 25, 25);
-			x += 10;
-		}
+		this.gc.setFill(GameTimer.PROFILE_BACKGROUND);
+		this.gc.fillRect(5, GameTimer.GAME_STATUS_BAR_HEIGHT + 5, 290, this.profileLines.length * 13 + 8);
 		
-		for(int i = 0; i < this.collectedSnowflakes; i++) {
-			this.gc.drawImage(Snowflake.SNOWFLAKE_IMAGE, x, 0, 25, 25);
-			x += 10;
-		}
+		this.gc.setFont(GameTimer.PROFILE_FONT);
+		this.gc.setFill(Color.WHITE);
 		
-	}
-	
-	
-	//method that checks if the cupid is dead
-	synchronized private void isCupidDead() {
-		if(!this.myCupid.isAlive()) {
-			System.out.println("CUPID has lost all of his strength!");
-			System.out.println("GAME OVER!");
-			
-			this.stop();			//stops the game
-			
-			int score = this.myCupid.getScore();
-			
-			PauseTransition transition = new PauseTransition(Duration.seconds(1));
-			transition.play();
-			
-			transition.setOnFinished(new EventHandler<ActionEvent>() {
-				public void handle(ActionEvent arg0) {
-					theGame.flashGameOver(GameTimer.LOSE_GAME, score);
-				}
-			});
+		for(int i = 0; i < this.profileLines.length; i++) {
+			this.gc.fillText(this.profileLines[i], 10, GameTimer.GAME_STATUS_BAR_HEIGHT + 18 + i * 13);
 		}
 	}
 	
 	
-	//method that checks if the elapsed time has reached a minute (60 seconds)
-	synchronized private void isGameOver(long currentNanoTime) {		
-		int runtime = this.elapsedTime(currentNanoTime, this.startGame);
-		
-		if(runtime == GameTimer.GAME_DURATION || runtime > GameTimer.GAME_DURATION) {	
-			
-			System.out.println("60 seconds is up!");
-			System.out.println("GAME OVER!");
-			
+	//method that checks if the game is over (cupid is dead or 60 seconds has passed)
+	private void isGameOver() {		
+		if(this.snapshot.isOver()) {
 			this.stop();						//stops the game
 			
-			int score = this.myCupid.getScore();
+			int score = this.snapshot.getScore();
+			boolean cupidAlive = this.snapshot.isCupidAlive();
 			
 			PauseTransition transition = new PauseTransition(Duration.seconds(1));
 			transition.play();
@@ -382,7 +281,7 @@ class GameTimer extends AnimationTimer{
 			transition.setOnFinished(new EventHandler<ActionEvent>() {
 				
 				public void handle(ActionEvent arg0) {
-					if(myCupid.isAlive()) {
+					if(cupidAlive) {
 						theGame.flashGameOver(GameTimer.WIN_GAME, score);
 					}else {
 						theGame.flashGameOver(GameTimer.LOSE_GAME, score);
@@ -393,399 +292,103 @@ class GameTimer extends AnimationTimer{
 	}
 	
 	
-	//method that spawns 3 more humans every 5 seconds
-	synchronized private void newHumans(long currentNanoTime) {		
-		int timeElapsed = this.elapsedTime(currentNanoTime, this.startGame);
-		
-		//check if timeElapsed is divisible by 5, and is not equal to 0 nor 60
-		if((timeElapsed % GameTimer.SPAWN_NEW_HUMANS == 0) && (timeElapsed != 0) && (timeElapsed != 60)) {
-			if(!this.hasSnowflake) {		//checks if the game has a snowflake (so that there will be no repetition of adding humans)
-				this.addHumans();
-			}
-		}else {
-			this.spawnedHumans = 0;			//set the spawnedHumans attribute to 0 
-		}
-	}
-	
-	
-	//method that spawns the boss when the elapsed time has reached 30 seconds
-	synchronized private void spawnBoss(long currentNanoTime) {		
-		int timeElapsed = this.elapsedTime(currentNanoTime, this.startGame);
-		
-		if((timeElapsed % GameTimer.SPAWN_BOSS == 0) && (timeElapsed != 0) && (timeElapsed != 60)) {
-			if(!this.hasSnowflake && !this.hasBoss) {	//checks if the game has a snowflake or has a boss human already (to prevent spawning a new boss when there is already one present)
-				this.addBoss();
-			}
-		}
-	}
+	//ALL METHODS IN renderSprites:
 	
 	
-	//method that spawns a power-up every 10 seconds
-	synchronized private void spawnPowerUps(long currentNanoTime) {		
-		int timeElapsed = this.elapsedTime(currentNanoTime, this.startGame);
+	//method that will render/draw cupid to the canvas, includes the cupid's strength (drawn from the digit atlas, through the batch)
+	private void renderCupid() {
+		SpriteStates cupid = this.snapshot.getCupid();
+		int x = cupid.getRenderX(0, this.alpha);
+		int y = cupid.getRenderY(0, this.alpha);
 		
-		if((timeElapsed % PowerUp.SPAWN_TIME == 0) && (timeElapsed != 0) && (timeElapsed != 60)) {
-			if(!this.hasSnowflake) {					//checks if there is a snowflake so that spawning the powerup will not repeat in the same timestamp
-				this.addPowerUp();
-			}
+		if(cupid.getKind(0) == WorldSnapshot.GLOWING_CUPID) {
+			this.batch.draw(GameStage.GLOWING_CUPID_REGION, x, y);		//cupid glows while immortal
 		}else {
-			this.spawnedPowerUps = 0;
+			this.batch.draw(GameStage.CUPID_REGION, x, y);
 		}
-	}
-	
-	
-	//method that spawns human lackeys when the boss is still alive 
-	synchronized private void spawnLackeys(long currentNanoTime) {
-		int timeElapsed = this.elapsedTime(currentNanoTime, this.bossTimestamp);
 		
-		if((timeElapsed % GameTimer.SPAWN_LACKEYS == 0) && (this.hasBoss == true) && (timeElapsed != 0)){
-			if(!this.hasSnowflake) {				//checks if there is a snowflake so that spawning the alckeys will not repeat
-				this.addLackeys();
-			}
+		int strength = cupid.getValue(0);
+		
+		if(strength >= 100) {
+			this.digits.draw(this.batch, strength, x+7, y+6);
+		}else if(strength >= 10 && strength < 100) {
+			this.digits.draw(this.batch, strength, x+12, y+6);
 		}else {
-			this.spawnedLackeys = 0;
+			this.digits.draw(this.batch, strength, x+18, y+6);
 		}
-		
 	}
 	
-
-	//method that returns the elapsed time between the starting time and the current time
-	private int elapsedTime(long currentNanoTime,long origin) {
-		long currentTime = TimeUnit.NANOSECONDS.toSeconds(currentNanoTime);
-		long startTime = TimeUnit.NANOSECONDS.toSeconds(origin);
-			
-		int timeElapsed = (int)(currentTime-startTime);
-		return timeElapsed;
-	}
 	
-	
-	//method that spawns humans and adds them to the humans ArrayList
-	synchronized private void addHumans() {
-		Random r = new Random();
+	//method that will render/draw the arrows to the canvas
+	private void renderArrows() {
+		SpriteStates arrows = this.snapshot.getArrows();
 		
-		while(this.spawnedHumans < GameTimer.NEW_NUM_HUMANS) {				//while spawnedHumans is less than the maximum number of humans to be spawned every 5 seconds
-			
-			int rangeX = ((GameStage.WINDOW_WIDTH-Human.HUMAN_WIDTH)-(GameStage.WINDOW_WIDTH/2))+1;
-			int rangeY = (GameStage.WINDOW_HEIGHT-Human.HUMAN_HEIGHT)-GameTimer.GAME_STATUS_BAR_HEIGHT;
-			
-			int x = r.nextInt(rangeX) + (GameStage.WINDOW_WIDTH/2);
-			int y = r.nextInt((rangeY)+1) + GameTimer.GAME_STATUS_BAR_HEIGHT;
-			
-			Human h = new Human(x,y, Human.NORMAL);
-			this.humans.add(h);
-			this.spawnedHumans++;						//increment spawnedHumans
-		}
-	}
-	
-
-	//method that spawns a boss human and adds it to the humans ArrayList
-	synchronized private void addBoss() {		
-		while(this.spawnedBoss < GameTimer.MAX_NUM_BOSS) {				
-			
-			int x = GameStage.WINDOW_WIDTH-Human.BOSS_HUMAN_HEIGHT;			//x position of boss will be changed when initialized to make it centered
-			int y = ((GameStage.WINDOW_HEIGHT-GameTimer.GAME_STATUS_BAR_HEIGHT)-Human.BOSS_HUMAN_HEIGHT)/2;
-			
-			Human h = new Human(x,y, Human.BOSS);
-			this.humans.add(h);
-			this.spawnedBoss++;							//increment spawnedBoss	
-			
-			this.setHasBoss(true);
-			this.bossTimestamp = System.nanoTime();
+		for (int i = 0; i < arrows.size(); i++) {
+			this.batch.draw(GameStage.ARROW_REGION, arrows.getRenderX(i, this.alpha), arrows.getRenderY(i, this.alpha));
 		}
 	}
 	
 	
-	//method that spawns a random power-up and adds it the PowerUps ArrayList
-	synchronized private void addPowerUp() {
-		Random r = new Random();
+	//method that will render/draw the humans to the canvas, includes each human's health (drawn from the digit atlas, through the batch)
+	private void renderHumans() {
+		SpriteStates humans = this.snapshot.getHumans();
 		
-		while(this.spawnedPowerUps < GameTimer.MAX_POWER_UPS) {
-						
-			int rangeX = GameStage.WINDOW_WIDTH/2;
-			int rangeY = (GameStage.WINDOW_HEIGHT-PowerUp.POWER_UP_IMAGE_WIDTH)-GameTimer.GAME_STATUS_BAR_HEIGHT;
+		for (int i = 0; i < humans.size(); i++){
+			int x = humans.getRenderX(i, this.alpha);
+			int y = humans.getRenderY(i, this.alpha);
 			
-			int x = r.nextInt(rangeX+1);
-			int y = r.nextInt(rangeY+1)+GameTimer.GAME_STATUS_BAR_HEIGHT;
+			this.batch.draw(this.humanRegion(humans.getKind(i)), x, y);
 			
-			Random t = new Random();
-			int v = t.nextInt(100)+1;
+			int health = humans.getValue(i);
 			
-			if(v % 10 == 0 && v <= 50) {
-				Snowflake s = new Snowflake(x,y);
-				this.powerUps.add(s);
-				this.spawnedPowerUps++;
-			}else if(v % 3 == 0) {
-				Wings w = new Wings(x,y);
-				this.powerUps.add(w);
-				this.spawnedPowerUps++;
-			}else if(v % 5 == 0) {
-				Autopilot u = new Autopilot(x,y);
-				this.powerUps.add(u);
-				this.spawnedPowerUps++;
-			}else if(v % 8 == 0 && v <= 50) {
-				Heart h = new Heart (x,y);
-				this.powerUps.add(h);
-				this.spawnedPowerUps++;
+			if(health >= 100) {
+				this.digits.draw(this.batch, health, x+20, y+8);
+			}else if(health >= 10 && health < 100) {
+				this.digits.draw(this.batch, health, x+25, y+8);
 			}else {
-				Dolphin d = new Dolphin(x,y);
-				this.powerUps.add(d);
-				this.spawnedPowerUps++;
+				this.digits.draw(this.batch, health, x+30, y+8);
 			}
 		}
 	}
-
-	
-	//method that spawns humans and adds them to the humans ArrayList
-	synchronized private void addLackeys() {
-		Random r = new Random();
-		
-		while(this.spawnedLackeys < GameTimer.NUM_LACKEYS) {
-			
-			int rangeX = ((GameStage.WINDOW_WIDTH-Human.HUMAN_WIDTH)-110)+1;
-			int rangeY = (GameStage.WINDOW_HEIGHT-Human.HUMAN_HEIGHT)-GameTimer.GAME_STATUS_BAR_HEIGHT;
-			
-			int x = rangeX;
-			int y = r.nextInt((rangeY)+1) + GameTimer.GAME_STATUS_BAR_HEIGHT;
-			
-			Human h = new Human(x,y, Human.LACKEY);
-			this.humans.add(h);
-			this.spawnedLackeys++;		
-		}
-	}
-	
 	
-	//ALL METHODS IN monitorPowerUps:
 	
-
-	//method to monitor uncollected power-ups
-	synchronized private void monitorIdlePowerUps(long currentNanoTime) {
-		for(int i = 0; i < this.powerUps.size(); i++) {
-			PowerUp p = this.powerUps.get(i);
-			
-			if(!p.isVisible()) {
-				this.powerUps.remove(p);
-			}else {				
-				int timeElapsed = this.elapsedTime(currentNanoTime, this.startGame);
-				
-				if((timeElapsed % PowerUp.IDLE_TIME == 0) && (timeElapsed != 0) && (timeElapsed % 10 != 0)) {
-					p.setVisible(false);				//since the power-up is not collected within 5 seconds, remove the power-up
-				}
-			}	
-		}
-	}
-	
-	
-	//method that monitors the duration of the wings effect on cupid
-	synchronized private void monitorWingsEffect(long currentNanoTime) {
-		if(this.hasWings) {
-			int timeElapsed = this.elapsedTime(currentNanoTime, this.wingsTime);
-			
-			if((timeElapsed % Wings.IMMORTALITY_DURATION == 0) && (timeElapsed != 0)){
-				//the effect of the collected wings has worn off
-				this.myCupid.setImmortal(false);					//sets the immortal attribute to false		
-				this.setHasWings(false);							//sets the hasWings attribute of gametimer to false
-				this.setWingsTime(0);								//resets wingsTime
-				
-				System.out.println("WINGS effect has worn off.");
-			}
-		}
-	}
-
-	
-	//method that monitors the duration of the dolphin's effect on cupid
-	synchronized private void monitorDolphinEffect(long currentNanoTime) {
-		if(this.hasDolphin) {			
-			int timeElapsed = this.elapsedTime(currentNanoTime, this.dolphinTime);
-			
-			if((timeElapsed % Dolphin.SPEED_UP_DURATION == 0) && (timeElapsed != 0)){
-				//the effect of the collected dolphin has worn off
-				this.myCupid.setFast(false);					//sets the fast attribute to false
-				this.setHasDolphin(false);						//sets the hasDolphin attribute of gametimer to false
-				this.setDolphinTime(0);							//resets dolphinTime
-				
-				System.out.println("DOLPHIN effect has worn off");
-			}
-		}
-	}
-	
-	
-	//method that implements and monitors the duration of the autopilot's effect on cupid
-	synchronized private void monitorAutopilotEffect(long currentNanoTime) {
-		if(this.hasAutopilot) {
-			this.myCupid.shoot();
-			
-			int timeElapsed = this.elapsedTime(currentNanoTime, this.autopilotTime);
-			
-			if((timeElapsed % Autopilot.AUTOPILOT_DURATION == 0) && (timeElapsed != 0)) {
-				//the effect of the collected autopilot has worn off
-				this.myCupid.setAutopilot(false);					//sets the autopilot attribute to false
-				this.setHasAutopilot(false);						//sets the hasAutopilot attribute of gametimer to false
-				this.setAutopilotTime(0);							//resets autopilotTime
-				
-				System.out.println("AUTOPILOT effect has worn off");
-			}
-		}
-	}
-	
-	
-	//method that monitors the duration of the snowflake's effect on the game
-	synchronized private void monitorSnowflakeEffect(long currentNanoTime) {
-		if(this.hasSnowflake) {
-			int timeElapsed =  this.elapsedTime(currentNanoTime, this.snowflakeTime);
-			
-			if((timeElapsed % Snowflake.TIME_FREEZE_DURATION == 0) && (timeElapsed != 0)) {
-				//the effect of the collected snowflake ahs worn off
-				long freezetime = System.nanoTime() - this.snowflakeTime;		
-				this.startGame += freezetime;							//adjusts the startGame by the amount of time the game is "frozen"
-				
-				this.myCupid.setFrozeTime(false);						//sets the frozeTime attribute to false
-				this.setHasSnowflake(false);							//sets the hasSnowflake attribute of gametimer to false
-				this.setSnowflakeTime(0);								//resets snowflakeTime
-				
-				System.out.println("SNOWFLAKE effect has worn off");
-			}
-			
-		}
-	}
-
-	
-	//ALL METHODS IN renderSprites:
-	
-	
-	//method that will render/draw the arrows to the canvas
-	private void renderArrows() {
-		for (Arrow a: this.myCupid.getArrows()) {
-			a.render(this.gc);
-		}
-	}
-	
-	
-	//method that will render/draw the humans to the canvas
-	private void renderHumans() {
-		for (Human h : this.humans){
-			h.render(this.gc);
+	//method that will render/draw the humans of the crowd (stress mode) to the canvas
+	//the health of the crowd humans is not drawn, as thousands of labels would take longer than the rest of the frame
+	private void renderCrowd() {
+		SpriteStates crowd = this.snapshot.getCrowd();
+		
+		for(int i = 0; i < crowd.size(); i++) {
+			this.batch.draw(this.humanRegion(crowd.getKind(i)), crowd.getRenderX(i, this.alpha), crowd.getRenderY(i, this.alpha));
 		}
 	}
 	
 	
 	//method that will render/draw power-ups in the canvas
 	private void renderPowerUps() {
-		for (PowerUp p: this.powerUps) {
-			p.render(this.gc);
-		}
-	}
-
-	
-	//ALL METHODS IN moveSprites:
-	
-	
-	//method that will move the arrows shot by cupid
-	private void moveArrows(){
-		//create a local arraylist of Arrows for the arrows 'shot' by cupid
-		ArrayList<Arrow> aList = this.myCupid.getArrows();
-			
-		//Loop through the arrow list and check whether a arrow is still visible.
-		for(int i = 0; i < aList.size(); i++){
-			Arrow a = aList.get(i);
-				
-			if(a.getVisible()) {
-				a.move();
-			}else {
-				aList.remove(a);
-			}
-				
-		}
-	}
-	
-	
-	//method that will move the humans 
-	synchronized private void moveHumans(){
-		//Loop through the humans arraylist
-		for(int i = 0; i < this.humans.size(); i++){
-			Human h = this.humans.get(i);
-				
-			if(h.isAlive()) {
-				if(!this.hasSnowflake) {					//humans will move when the game has not collected a snowflake
-					h.move();
-				}
-			}else {
-				this.humans.remove(h);
-			}
-		}
-	}
-
-	
-	//ALL METHODS IN collidingSprites:
-	
-	
-	//method that checks if the arrow hits a human
-	synchronized private void arrowHit() {
-		ArrayList <Arrow> cupidArrows = this.myCupid.getArrows();
+		SpriteStates powerUps = this.snapshot.getPowerUps();
 		
-		for(Arrow a: cupidArrows) {
-			for(Human h: this.humans) {
-				if(a.collidesWith(h)) {									//check if arrow has hit a human
-					
-					h.updateHealth(a.getDamage(), this);				//decrease the human's health by the arrow's damage
-					
-					a.setDamage(0);										//sets the damage of the arrow to 0 (to ensure that only one human has been hit)
-					a.setVisible(false);								//makes the arrow not visible when it has hit a human 
-					
-					if(!h.isAlive()) {
-						this.myCupid.updateScore();
-					}
-				}
-			}
-		}
-	}
-	
-	
-	//method that checks if the human hits cupid
-	synchronized private void humanHit() {
-		for(Human h: this.humans) {
-			if(this.myCupid.collidesWith(h) && this.myCupid.isAlive()) {				
-				if(this.myCupid.isImmortal()) {
-					h.updateHealth(this.myCupid.getStrength(), this);					//if immortal, only update the health of human
-				}else {
-					int initialStrength = this.myCupid.getStrength();
-					
-					this.myCupid.updateStrength(h.getStrength());						//decrease cupid strength by strength of human
-					this.myCupid.bounce(h.getX());										//make cupid change x position
-					
-					System.out.println("CUPID got hit by a HUMAN with strength " + h.getStrength());
-					System.out.println("Current CUPID's strength is " + this.myCupid.getStrength());
-					
-					h.updateHealth(initialStrength, this);								//decrease human's health by the intialStrength of cupid (before cupid hit human)
-				}
-			}
+		for (int i = 0; i < powerUps.size(); i++) {
+			this.batch.draw(this.powerUpRegion(powerUps.getKind(i)), powerUps.getRenderX(i, this.alpha), powerUps.getRenderY(i, this.alpha));
 		}
 	}
 	
 	
-	//method that checks if cupid has collided/collected with/a power-up
-	synchronized private void collectPowerUp() {
-		for(PowerUp p: this.powerUps) {
-			if(this.myCupid.collidesWith(p)) {
-				p.affectCupid(this.myCupid, this);				
-			}
-		}
+	//method that returns the part of the sprite atlas a human is drawn with
+	private AtlasRegion humanRegion(int kind) {
+		if(kind == WorldSnapshot.FEMALE_BOSS) return GameStage.FEMALE_BOSS_REGION;
+		if(kind == WorldSnapshot.MALE_BOSS) return GameStage.MALE_BOSS_REGION;
+		if(kind == WorldSnapshot.FEMALE_HUMAN) return GameStage.FEMALE_HUMAN_REGION;
+		return GameStage.MALE_HUMAN_REGION;
 	}
 	
 	
-	//method that will spawn 7 humans at a random x,y location (initial)
-	private void spawnHumans(){		
-		Random r = new Random();
-		for (int i = 0; i < GameTimer.INIT_NUM_HUMANS; i++) {
-			
-			int rangeX = ((GameStage.WINDOW_WIDTH-Human.HUMAN_WIDTH)-(GameStage.WINDOW_WIDTH/2))+1;
-			int rangeY = (GameStage.WINDOW_HEIGHT-Human.HUMAN_HEIGHT)-GameTimer.GAME_STATUS_BAR_HEIGHT;
-			
-			int x = r.nextInt(rangeX) + (GameStage.WINDOW_WIDTH/2);
-			int y = r.nextInt((rangeY)+1) + GameTimer.GAME_STATUS_BAR_HEIGHT;
-			
-			Human h = new Human (x,y, Human.NORMAL);
-			this.humans.add(h);
-		}
+	//method that returns the part of the sprite atlas a power-up is drawn with
+	private AtlasRegion powerUpRegion(int kind) {
+		if(kind == WorldSnapshot.HEART) return GameStage.HEART_REGION;
+		if(kind == WorldSnapshot.WINGS) return GameStage.WINGS_REGION;
+		if(kind == WorldSnapshot.DOLPHIN) return GameStage.DOLPHIN_REGION;
+		if(kind == WorldSnapshot.AUTOPILOT) return GameStage.AUTOPILOT_REGION;
+		return GameStage.SNOWFLAKE_REGION;
 	}
 	
 	
@@ -794,153 +397,76 @@ class GameTimer extends AnimationTimer{
 		this.theScene.setOnKeyPressed(new EventHandler<KeyEvent>(){
 			public void handle(KeyEvent e){
             	KeyCode code = e.getCode();
-                movemyCupid(code);
+            	
+            	if(code == GameTimer.PROFILE_KEY) {
+            		showProfile = !showProfile;							//shows/hides the debug overlay
+            		repaintAll = true;									//erases the overlay in dirty-rectangle mode
+            		return;
+            	}
+                simulation.keyEvent(e);									//the key is applied to cupid on the next tick
 			}
 		});
 		
 		this.theScene.setOnKeyReleased(new EventHandler<KeyEvent>(){
 		            public void handle(KeyEvent e){
-		            	KeyCode code = e.getCode();
-		                stopmyCupid(code);
+		                simulation.keyEvent(e);
 		            }
 		        });
     }
 	
 	
-	//method that will move the ship depending on the key pressed
-	private void movemyCupid(KeyCode ke) {
-		if(this.hasDolphin) {
-			if(ke==KeyCode.UP) this.myCupid.setDY(-Cupid.UPGRADED_SPEED);                 
-
-			if(ke==KeyCode.LEFT) this.myCupid.setDX(-Cupid.UPGRADED_SPEED);
-
-			if(ke==KeyCode.DOWN) this.myCupid.setDY(Cupid.UPGRADED_SPEED);
-			
-			if(ke==KeyCode.RIGHT) this.myCupid.setDX(Cupid.UPGRADED_SPEED);
-		}else {
-			if(ke==KeyCode.UP) this.myCupid.setDY(-Cupid.NORMAL_SPEED);                 
-
-			if(ke==KeyCode.LEFT) this.myCupid.setDX(-Cupid.NORMAL_SPEED);
-
-			if(ke==KeyCode.DOWN) this.myCupid.setDY(Cupid.NORMAL_SPEED);
-			
-			if(ke==KeyCode.RIGHT) this.myCupid.setDX(Cupid.NORMAL_SPEED);
-		}
-		
-		if(ke==KeyCode.SPACE) this.myCupid.shoot();			
-		
-		System.out.println(ke+" key pressed.");
-   	}
-	
-	
-	//method that will stop the ship's movement; set the ship's DX and DY to 0
-	private void stopmyCupid(KeyCode ke){
-		this.myCupid.setDX(0);
-		this.myCupid.setDY(0);
-	}
-	
-	
 	//method that pauses the game/stops the game temporarily
 	void pause() {
-		this.gc.setFont(GameTimer.DEFAULT_FONT);
-		this.gc.setFill(Color.BLACK);
-		this.gc.fillText("Paused", 65, 18);
+		this.statusBar.showPaused();
 		
-		this.pauseTimestamp = System.nanoTime();
-		this.stop();										//stops the GameTimer
-		System.out.println("Game is paused.");
+		super.stop();										//stops the GameTimer
+		this.simulation.pause();							//the simulation waits until the game is played again
+		if(GameLog.INFO) GameLog.log(GameLog.PAUSED);
 	}
 	
 	
 	//method that continues the game from where it left off
-	synchronized void play() {
-		long pauseTime = System.nanoTime() - this.pauseTimestamp;
-		this.startGame += pauseTime;						//adjusts the startGame by the time it is paused
-		
-		
-		//Adjusts other timestamps for time-related powerups
-		if(this.dolphinTime != 0) {
-			this.dolphinTime += pauseTime;
-		}
-		
-		if(this.wingsTime != 0) {
-			this.wingsTime +=  pauseTime;
-		}
-		
-		if(this.autopilotTime != 0) {
-			this.autopilotTime += pauseTime;
-		}
-		
-		if(this.snowflakeTime != 0) {
-			this.snowflakeTime += pauseTime;
-			this.realStart += pauseTime;
-		}
-		
+	void play() {
+		this.lastPulse = 0;									//the game clock does not count the time it is paused
 		
+		this.simulation.resume();
 		this.start();										//starts the GameTimer
-		System.out.println("Game is resumed.");
-	}
-	
-	
-	//setters
-	void setStartGame(long time) {
-		this.startGame = time;
+		if(GameLog.INFO) GameLog.log(GameLog.RESUMED);
 	}
 	
-	void setHasWings(boolean value) {
-		this.hasWings = value;
-	}
-	
-	void setHasDolphin(boolean value) {
-		this.hasDolphin = value;
-	}
-	
-	void setWingsTime(long value) {
-		this.wingsTime = value;
-	}
 	
-	void setDolphinTime(long value) {
-		this.dolphinTime = value;
-	}
-	
-	void setCollectedHearts() {
-		this.collectedHearts++;
-	}
-	
-	void setCollectedWings() {
-		this.collectedWings++;
-	}
-	
-	void setCollectedDolphins() {
-		this.collectedDolphins++;
-	}
-	
-	void setHasAutopilot(boolean value) {
-		this.hasAutopilot = value;
+	//method that reads the replay to watch (null if there is none, or it cannot be read, then the game is played as usual)
+	private static Replay readReplay(String file) {
+		if(file == null) {
+			return null;
+		}
+		
+		try {
+			return Replay.read(Paths.get(file));
+		}catch(IOException e) {
+			System.out.println("Could not read the replay " + file + ": " + e.getMessage());
+			return null;
+		}
 	}
 	
-	void setAutopilotTime(long value) {
-		this.autopilotTime = value;
-	}
 	
-	void setCollectedAutopilots() {
-		this.collectedAutopilots++;
+	//method that stops the game for good (game over or back to the main menu), the simulation thread ends too
+	@Override
+	public void stop() {
+		super.stop();
+		this.simulation.stop();
 	}
 	
-	void setHasSnowflake(boolean value) {
-		this.hasSnowflake = value;
-	}
 	
-	synchronized void setSnowflakeTime(long value) {
-		this.snowflakeTime = value;
-		this.realStart = this.startGame;
+	//method that waits until the simulation thread has ended after stop (it no longer records into the profiler)
+	void awaitEnd() {
+		this.simulation.awaitEnd();
 	}
 	
-	void setCollectedSnowflakes() {
-		this.collectedSnowflakes++;
-	}
 	
-	void setHasBoss(boolean value) {
-		this.hasBoss = value;
+	//setters
+	//starts the simulation of the world at the given time
+	void setStartGame(long time) {
+		this.simulation.start(time);
 	}
 }
@@ -0,0 +1,1001 @@
+	/***********************************************************	*
+	* This class holds the state and the rules of the game,
+	* without anything that draws the game or listens to keys.
+	*
+	* This class is responsible for the following:
+	* 	- Owning the Cupid, the Humans and the Power-ups (and the crowd of humans of the stress mode)
+	* 	- Tracking the current time elapsed in the game (which stops while the time is frozen)
+	* 	- Tracking the power-ups collected by Cupid
+	* 	- Tracking if the game is over (cupid is strength is 0 or 60 seconds has passed)
+	* 	- Spawning the Humans, the Boss, the Lackeys and the Power-ups
+	* 	- Moving Cupid and shooting arrows with the keys of each tick
+	* 	- Moving the sprites (Humans, Cupid, and Arrows)
+	* 	- Ending the effects of collected power-ups
+	* 	- Check the collision of sprites (Cupid-Human, Arrow-Human, Cupid-Power-up)
+	*
+	* The world does not use JavaFX and does not read the clock
+	* by itself. It keeps its own game clock which moves forward
+	* by a fixed tick every time step is called, so the GameTimer
+	* can step it at a fixed rate no matter how fast the screen
+	* refreshes, and a simulation can step it as fast as the CPU
+	* allows.
+	*
+	* Every random number of the game (spawn places, strengths,
+	* speeds, which power-up comes) is drawn from one GameRandom
+	* made from the seed of the world, so a world made with the
+	* same seed and given the same keys plays the same game.
+	*
+	* The steps of a tick that the benchmarks (in the benchmarks
+	* module of the build) time on their own, like moveHumans and
+	* arrowHit, are package-private instead of private.
+	*
+	* The whole state of the world (what a tick reads and writes)
+	* can be written to a buffer and read back (writeState and
+	* readState), which the replay archive uses for its keyframes.
+	*
+	* Spawn waves and the end of power-up effects are events kept
+	* in a Scheduler. Each event is scheduled for the time it is
+	* due and handled once on the first tick at or after it, so a
+	* tick only handles the events that are due instead of checking
+	* every timer of the game.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-17 09:12
+	***********************************************************/
+
+package game;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+class GameWorld {
+	private Cupid myCupid;
+	private ArrayList<Human> humans;
+	private ArrayList <PowerUp> powerUps;
+	private SpatialGrid<Human> humanGrid;			//grid of the humans, used to find the humans near an arrow or cupid
+	private SpatialGrid<PowerUp> powerUpGrid;		//grid of the power-ups, used to find the power-ups near cupid
+	private CrowdStore crowd;						//extra humans of the stress mode (empty in a normal game)
+	private FrameProfiler profiler;					//profiler that times the phases of a tick
+	private GameRandom random;						//source of every random number of the game
+	
+	private long currentTime;						//attribute that stores the time of the current tick
+	private final long tickTime;					//attribute for the length of one tick in nanoseconds
+	private final int moveScale;					//attribute for the number of 1/60-second frames one tick covers (sprite speeds are per frame)
+	private long gameTime;							//attribute for the time the game has run, which does not move while the time is frozen (effect of snowflake powerup)
+	
+	private Scheduler gameEvents;					//events due on the game time (spawn waves and the end of the game)
+	private Scheduler effectEvents;					//events due on the current time (end of the power-up effects, which wear off even while the time is frozen)
+	
+	//attributes for collected power-ups
+	private int collectedHearts = 0;
+	private int collectedWings = 0;
+	private int collectedDolphins = 0;
+	private int collectedAutopilots = 0;
+	private int collectedSnowflakes = 0;
+	
+	private boolean hasWings;
+	private boolean hasDolphin;
+	private boolean hasBoss;
+	private boolean hasAutopilot;
+	private boolean hasSnowflake;
+	
+	private boolean over;							//whether the game is over (cupid is dead or the time is up)
+	
+	private int keys;								//keys held (or pressed) during the tick, bits KEY_UP to KEY_FIRE
+	private int previousKeys;						//keys of the previous tick
+	private boolean fireRequested;					//whether space was pressed since the last arrow was shot
+	private long nextShot;							//time cupid can shoot the next arrow (current time)
+	
+	//Class constants
+	private final static int INIT_NUM_HUMANS = 7;		//constant for the initial number of humans spawned
+	private final static int NEW_NUM_HUMANS = 3;		//constant for the maximum number of humans spawned every 5 seconds
+	private final static int NUM_LACKEYS = 3;			//constant for the maximum number of lackeys spawned every 5 seconds (while boss is alive)
+	
+	private final static int MAX_POWER_UPS = 1;			//constant for the maximum number of power-ups spawned every 10 seconds
+	private final static int MAX_NUM_BOSS = 1;			//constant for the maximum number of boss spawned when 30-second mark is reached
+	
+	final static int GAME_DURATION = 60;				//constant for the time the game runs
+	private final static int SPAWN_NEW_HUMANS = 5;		//constant for the time interval where new humans are spawned
+	private final static int SPAWN_BOSS = 30;			//constant for the time elapsed when a boss should be spawned
+	private final static int SPAWN_LACKEYS = 5;			//constant for the time interval when lackeys should be spawned
+	
+	final static int DEFAULT_TICK_RATE = 60;			//constant for the number of ticks per second the sprite speeds are tuned for
+	private final static long FIRE_INTERVAL = TimeUnit.MILLISECONDS.toNanos(150);	//constant for the shortest time between two arrows shot with space
+	
+	//Keys (bits of the keys of a tick)
+	final static int KEY_UP = 1;
+	final static int KEY_DOWN = 2;
+	final static int KEY_LEFT = 4;
+	final static int KEY_RIGHT = 8;
+	final static int KEY_FIRE = 16;
+	
+	//Events
+	private final static int HUMANS_EVENT = 0;			//spawn 3 more humans (every 5 seconds)
+	private final static int BOSS_EVENT = 1;			//spawn the boss (at 30 seconds)
+	private final static int POWER_UP_EVENT = 2;		//spawn a power-up (every 10 seconds)
+	private final static int IDLE_POWER_UP_EVENT = 3;	//remove the power-ups that were not collected (5 seconds after they are spawned)
+	private final static int LACKEYS_EVENT = 4;			//spawn 3 lackeys (every 5 seconds while the boss is alive)
+	private final static int GAME_OVER_EVENT = 5;		//end the game (at 60 seconds)
+	private final static int WINGS_EVENT = 6;			//end the effect of the wings
+	private final static int DOLPHIN_EVENT = 7;			//end the effect of the dolphin
+	private final static int AUTOPILOT_EVENT = 8;		//end the effect of the autopilot
+	private final static int SNOWFLAKE_EVENT = 9;		//end the effect of the snowflake
+	
+	
+	GameWorld(){
+		this(GameWorld.DEFAULT_TICK_RATE);
+	}
+	
+	
+	//the tick rate has to divide 60 so that every sprite still moves a whole number of pixels per tick
+	GameWorld(int tickRate){
+		this(tickRate, 0);
+	}
+	
+	
+	//crowdSize is the number of extra humans spawned at the start for the stress mode (0 for a normal game)
+	GameWorld(int tickRate, int crowdSize){
+		this(tickRate, crowdSize, GameRandom.newSeed());
+	}
+	
+	
+	//seed is the seed of the random numbers of the game (the same seed and the same keys play the same game)
+	GameWorld(int tickRate, int crowdSize, long seed){
+		if(tickRate <= 0 || GameWorld.DEFAULT_TICK_RATE % tickRate != 0) {
+			throw new IllegalArgumentException("Tick rate must divide " + GameWorld.DEFAULT_TICK_RATE + ": " + tickRate);
+		}
+		
+		this.tickTime = TimeUnit.SECONDS.toNanos(1) / tickRate;
+		this.moveScale = GameWorld.DEFAULT_TICK_RATE / tickRate;
+		
+		this.hasWings = false;
+		this.hasDolphin = false;
+		
+		this.random = new GameRandom(seed);
+		if(GameLog.INFO) GameLog.log(GameLog.SEED, Long.valueOf(seed));
+		
+		int rangeY = (GameStage.WINDOW_HEIGHT-Cupid.CUPID_WIDTH)-GameTimer.GAME_STATUS_BAR_HEIGHT;
+		int y = this.random.nextInt((rangeY)+1) + GameTimer.GAME_STATUS_BAR_HEIGHT;
+		this.myCupid = new Cupid("Eros",10,y, this.random);
+		
+		//instantiate the ArrayList of Human
+		this.humans = new ArrayList<Human>();
+		
+		//instantiate the ArrayList of PowerUp
+		this.powerUps = new ArrayList<PowerUp>();
+		
+		//no profiler until the GameTimer gives it its own (the worlds that are not shown are not timed)
+		this.profiler = FrameProfiler.OFF;
+		
+		//instantiate the schedulers of the events
+		this.gameEvents = new Scheduler();
+		this.effectEvents = new Scheduler();
+		
+		//instantiate the grids used to find colliding sprites
+		this.humanGrid = new SpatialGrid<Human>(GameStage.WINDOW_WIDTH, GameStage.WINDOW_HEIGHT, SpatialGrid.DEFAULT_CELL_SIZE);
+		this.powerUpGrid = new SpatialGrid<PowerUp>(GameStage.WINDOW_WIDTH, GameStage.WINDOW_HEIGHT, SpatialGrid.DEFAULT_CELL_SIZE);
+		
+		//call the spawnHumans method (spawns 7 humans)
+		this.spawnHumans();
+		
+		//instantiate the crowd and spawn its humans
+		this.crowd = new CrowdStore(crowdSize);
+		this.spawnCrowd(crowdSize);
+	}
+	
+	
+	//method that starts the game at the given time, and schedules the spawn waves and the end of the game
+	void start(long time) {
+		this.currentTime = time;
+		this.gameTime = 0;
+		this.nextShot = time;								//cupid can shoot right away (the time can be negative, like System.nanoTime)
+		
+		this.gameEvents.clear();
+		this.gameEvents.schedule(this.seconds(GameWorld.SPAWN_NEW_HUMANS), GameWorld.HUMANS_EVENT);
+		this.gameEvents.schedule(this.seconds(PowerUp.SPAWN_TIME), GameWorld.POWER_UP_EVENT);
+		this.gameEvents.schedule(this.seconds(GameWorld.SPAWN_BOSS), GameWorld.BOSS_EVENT);
+		this.gameEvents.schedule(this.seconds(GameWorld.GAME_DURATION), GameWorld.GAME_OVER_EVENT);
+	}
+	
+	
+	//method that advances the game by one tick
+	void step() {
+		this.currentTime += this.tickTime;
+		
+		if(!this.hasSnowflake) {							//the game time does not move while the time is frozen
+			this.gameTime += this.tickTime;
+		}
+		
+		this.isCupidDead();
+		
+		this.profiler.begin(FrameProfiler.EVENTS);
+		this.handleEvents();
+		this.profiler.end(FrameProfiler.EVENTS);
+		
+		if(this.over) {
+			return;
+		}
+		
+		this.savePositions();
+		this.applyKeys();
+		
+		this.profiler.begin(FrameProfiler.POWER_UPS);
+		this.monitorPowerUps();
+		this.profiler.end(FrameProfiler.POWER_UPS);
+		
+		this.profiler.begin(FrameProfiler.MOVE);
+		this.moveSprites();
+		this.profiler.end(FrameProfiler.MOVE);
+		
+		this.profiler.begin(FrameProfiler.COLLISIONS);
+		this.collidingSprites();
+		this.profiler.end(FrameProfiler.COLLISIONS);
+	}
+	
+	
+	//method that handles the events that are due on this tick (no more events are handled once the game is over)
+	private void handleEvents() {
+		int event;
+		
+		while(!this.over && (event = this.effectEvents.poll(this.currentTime)) != Scheduler.NONE) {
+			this.handleEvent(event, this.effectEvents.getDue());
+		}
+		
+		while(!this.over && (event = this.gameEvents.poll(this.gameTime)) != Scheduler.NONE) {
+			this.handleEvent(event, this.gameEvents.getDue());
+		}
+	}
+	
+	
+	//method that remembers where the moving sprites are before they move (so they can be drawn in between ticks)
+	private void savePositions() {
+		this.myCupid.savePosition();
+		
+		ArrowPool arrows = this.myCupid.getArrows();
+		for(int i = 0; i < arrows.size(); i++) {
+			arrows.get(i).savePosition();
+		}
+		
+		for(Human h: this.humans) {
+			h.savePosition();
+		}
+		
+		this.crowd.savePositions();
+	}
+	
+	
+	//method that applies the keys of the tick to cupid: the arrow keys move cupid (two of them at once move it diagonally), space shoots
+	//holding space shoots an arrow every FIRE_INTERVAL, and a press while waiting for the next arrow is kept until it is shot
+	private void applyKeys() {
+		int speed = this.hasDolphin ? Cupid.UPGRADED_SPEED : Cupid.NORMAL_SPEED;
+		int dx = 0;
+		int dy = 0;
+		
+		if((this.keys & GameWorld.KEY_LEFT) != 0) dx -= speed;
+		if((this.keys & GameWorld.KEY_RIGHT) != 0) dx += speed;
+		if((this.keys & GameWorld.KEY_UP) != 0) dy -= speed;
+		if((this.keys & GameWorld.KEY_DOWN) != 0) dy += speed;
+		
+		this.myCupid.setDX(dx);
+		this.myCupid.setDY(dy);
+		
+		if((this.keys & ~this.previousKeys & GameWorld.KEY_FIRE) != 0) {
+			this.fireRequested = true;
+		}
+		
+		if((this.fireRequested || (this.keys & GameWorld.KEY_FIRE) != 0) && this.currentTime >= this.nextShot) {
+			this.myCupid.shoot();
+			this.nextShot = this.currentTime + GameWorld.FIRE_INTERVAL;
+			this.fireRequested = false;
+		}
+		
+		this.previousKeys = this.keys;
+	}
+	
+	
+	//method that monitors the power-ups in the game, both collected and not
+	private void monitorPowerUps() {
+		this.monitorIdlePowerUps();
+		this.monitorAutopilotEffect();
+	}
+	
+	
+	//method that moves all the sprites in the game
+	private void moveSprites() {
+		this.myCupid.move(this.moveScale);
+		this.moveArrows();
+		this.moveHumans();
+	}
+	
+	
+	//method that checks if the sprites collide in the game
+	private void collidingSprites() {
+		this.fillGrids();
+		this.arrowHit();
+		this.humanHit();
+		this.collectPowerUp();
+	}
+	
+	
+	//ALL METHODS IN step:
+	
+	
+	//method that checks if the cupid is dead
+	private void isCupidDead() {
+		if(!this.over && !this.myCupid.isAlive()) {
+			if(GameLog.INFO) GameLog.log(GameLog.CUPID_DEAD);
+			
+			this.over = true;
+		}
+	}
+	
+	
+	//method that handles an event, due is the time it was due
+	private void handleEvent(int event, long due) {
+		switch(event) {
+			case GameWorld.HUMANS_EVENT:
+				this.addHumans();
+				this.scheduleWave(due, GameWorld.SPAWN_NEW_HUMANS, GameWorld.HUMANS_EVENT);
+				break;
+			
+			case GameWorld.BOSS_EVENT:
+				if(!this.hasBoss) {
+					this.addBoss();
+				}
+				break;
+			
+			case GameWorld.POWER_UP_EVENT:
+				this.addPowerUp();
+				this.gameEvents.schedule(due + this.seconds(PowerUp.IDLE_TIME), GameWorld.IDLE_POWER_UP_EVENT);
+				this.scheduleWave(due, PowerUp.SPAWN_TIME, GameWorld.POWER_UP_EVENT);
+				break;
+			
+			case GameWorld.IDLE_POWER_UP_EVENT:
+				for(PowerUp p: this.powerUps) {
+					p.setVisible(false);				//since the power-up is not collected within 5 seconds, remove the power-up
+				}
+				break;
+			
+			case GameWorld.LACKEYS_EVENT:
+				if(this.hasBoss) {						//lackeys are only spawned while the boss is alive
+					this.addLackeys();
+					this.gameEvents.schedule(due + this.seconds(GameWorld.SPAWN_LACKEYS), GameWorld.LACKEYS_EVENT);
+				}
+				break;
+			
+			case GameWorld.GAME_OVER_EVENT:
+				if(GameLog.INFO) GameLog.log(GameLog.TIME_UP);
+				
+				this.over = true;
+				break;
+			
+			case GameWorld.WINGS_EVENT:
+				//the effect of the collected wings has worn off
+				this.myCupid.setImmortal(false);					//sets the immortal attribute to false
+				this.setHasWings(false);							//sets the hasWings attribute of the world to false
+				
+				if(GameLog.INFO) GameLog.log(GameLog.WINGS_OFF);
+				break;
+			
+			case GameWorld.DOLPHIN_EVENT:
+				//the effect of the collected dolphin has worn off
+				this.myCupid.setFast(false);						//sets the fast attribute to false
+				this.setHasDolphin(false);							//sets the hasDolphin attribute of the world to false
+				
+				if(GameLog.INFO) GameLog.log(GameLog.DOLPHIN_OFF);
+				break;
+			
+			case GameWorld.AUTOPILOT_EVENT:
+				//the effect of the collected autopilot has worn off
+				this.myCupid.setAutopilot(false);					//sets the autopilot attribute to false
+				this.setHasAutopilot(false);						//sets the hasAutopilot attribute of the world to false
+				
+				if(GameLog.INFO) GameLog.log(GameLog.AUTOPILOT_OFF);
+				break;
+			
+			case GameWorld.SNOWFLAKE_EVENT:
+				//the effect of the collected snowflake has worn off, the game time moves again
+				this.myCupid.setFrozeTime(false);					//sets the frozeTime attribute to false
+				this.setHasSnowflake(false);						//sets the hasSnowflake attribute of the world to false
+				
+				if(GameLog.INFO) GameLog.log(GameLog.SNOWFLAKE_OFF);
+				break;
+		}
+	}
+	
+	
+	//method that schedules the next wave of a spawn event, interval seconds after the last one (no waves are spawned at the end of the game)
+	private void scheduleWave(long due, int interval, int event) {
+		long next = due + this.seconds(interval);
+		
+		if(next < this.seconds(GameWorld.GAME_DURATION)) {
+			this.gameEvents.schedule(next, event);
+		}
+	}
+	
+	
+	//method that schedules the end of a power-up effect, replacing the end scheduled when the same power-up was collected before
+	private void scheduleEffect(long time, int duration, int event) {
+		this.effectEvents.cancel(event);
+		this.effectEvents.schedule(time + this.seconds(duration), event);
+	}
+	
+	
+	//method that returns the number of nanoseconds in the given number of seconds
+	private long seconds(int seconds) {
+		return TimeUnit.SECONDS.toNanos(seconds);
+	}
+	
+	
+	//method that spawns humans and adds them to the humans ArrayList
+	void addHumans() {
+		for(int i = 0; i < GameWorld.NEW_NUM_HUMANS; i++) {
+		
+			int rangeX = ((GameStage.WINDOW_WIDTH-Human.HUMAN_WIDTH)-(GameStage.WINDOW_WIDTH/2))+1;
+			int rangeY = (GameStage.WINDOW_HEIGHT-Human.HUMAN_HEIGHT)-GameTimer.GAME_STATUS_BAR_HEIGHT;
+			
+			int x = this.random.nextInt(rangeX) + (GameStage.WINDOW_WIDTH/2);
+			int y = this.random.nextInt((rangeY)+1) + GameTimer.GAME_STATUS_BAR_HEIGHT;
+			
+			Human h = new Human(x,y, Human.NORMAL, this.random);
+			this.humans.add(h);
+		}
+	}
+	
+	
+	//method that spawns a boss human and adds it to the humans ArrayList
+	private void addBoss() {
+		for(int i = 0; i < GameWorld.MAX_NUM_BOSS; i++) {
+		
+			int x = GameStage.WINDOW_WIDTH-Human.BOSS_HUMAN_HEIGHT;			//x position of boss will be changed when initialized to make it centered
+			int y = ((GameStage.WINDOW_HEIGHT-GameTimer.GAME_STATUS_BAR_HEIGHT)-Human.BOSS_HUMAN_HEIGHT)/2;
+			
+			Human h = new Human(x,y, Human.BOSS, this.random);
+			this.humans.add(h);
+			
+			this.setHasBoss(true);
+			this.gameEvents.schedule(this.gameTime + this.seconds(GameWorld.SPAWN_LACKEYS), GameWorld.LACKEYS_EVENT);		//lackeys come every 5 seconds while the boss is alive
+		}
+	}
+	
+	
+	//method that spawns a random power-up and adds it the PowerUps ArrayList
+	private void addPowerUp() {
+		for(int i = 0; i < GameWorld.MAX_POWER_UPS; i++) {
+		
+			int rangeX = GameStage.WINDOW_WIDTH/2;
+			int rangeY = (GameStage.WINDOW_HEIGHT-PowerUp.POWER_UP_IMAGE_WIDTH)-GameTimer.GAME_STATUS_BAR_HEIGHT;
+			
+			int x = this.random.nextInt(rangeX+1);
+			int y = this.random.nextInt(rangeY+1)+GameTimer.GAME_STATUS_BAR_HEIGHT;
+			
+			int v = this.random.nextInt(100)+1;
+			
+			if(v % 10 == 0 && v <= 50) {
+				Snowflake s = new Snowflake(x,y);
+				this.powerUps.add(s);
+			}else if(v % 3 == 0) {
+				Wings w = new Wings(x,y);
+				this.powerUps.add(w);
+			}else if(v % 5 == 0) {
+				Autopilot u = new Autopilot(x,y);
+				this.powerUps.add(u);
+			}else if(v % 8 == 0 && v <= 50) {
+				Heart h = new Heart (x,y);
+				this.powerUps.add(h);
+			}else {
+				Dolphin d = new Dolphin(x,y);
+				this.powerUps.add(d);
+			}
+		}
+	}
+	
+	
+	//method that spawns humans and adds them to the humans ArrayList
+	private void addLackeys() {
+		for(int i = 0; i < GameWorld.NUM_LACKEYS; i++) {
+		
+			int rangeX = ((GameStage.WINDOW_WIDTH-Human.HUMAN_WIDTH)-110)+1;
+			int rangeY = (GameStage.WINDOW_HEIGHT-Human.HUMAN_HEIGHT)-GameTimer.GAME_STATUS_BAR_HEIGHT;
+			
+			int x = rangeX;
+			int y = this.random.nextInt((rangeY)+1) + GameTimer.GAME_STATUS_BAR_HEIGHT;
+			
+			Human h = new Human(x,y, Human.LACKEY, this.random);
+			this.humans.add(h);
+		}
+	}
+	
+	
+	//ALL METHODS IN monitorPowerUps:
+	
+	
+	//method that removes the collected and expired power-ups
+	private void monitorIdlePowerUps() {
+		Sprite.removeInvisible(this.powerUps);
+	}
+	
+	
+	//method that implements the autopilot's effect on cupid (the effect ends with the AUTOPILOT_EVENT)
+	private void monitorAutopilotEffect() {
+		if(this.hasAutopilot) {
+			for(int i = 0; i < this.moveScale; i++) {		//one arrow per 1/60 second, so the autopilot does the same damage at every tick rate
+				this.myCupid.shoot(i);						//the arrow of the i-th 1/60 second of the tick, i frames behind the first
+			}
+		}
+	}
+	
+	
+	//ALL METHODS IN moveSprites:
+	
+	
+	//method that will move the arrows shot by cupid
+	void moveArrows(){
+		//create a local reference to the arrows 'shot' by cupid
+		ArrowPool arrows = this.myCupid.getArrows();
+		
+		//Loop through the arrows and check whether an arrow is still visible.
+		int i = 0;
+		while(i < arrows.size()){
+			Arrow a = arrows.get(i);
+			
+			if(a.getVisible()) {
+				a.move(this.moveScale);
+				i++;
+			}else {
+				arrows.release(i);				//the last arrow takes its place, so check index i again
+			}
+		
+		}
+	}
+	
+	
+	//method that will move the humans
+	void moveHumans(){
+		//remove the dead humans (dead humans are not visible)
+		Sprite.removeInvisible(this.humans);
+		
+		//Loop through the humans arraylist
+		for(int i = 0; i < this.humans.size(); i++){
+			Human h = this.humans.get(i);
+			
+			if(!this.hasSnowflake) {						//humans will move when the game has not collected a snowflake
+				h.move(this.moveScale);
+			}
+		}
+		
+		this.crowd.move(this.moveScale, this.hasSnowflake);
+	}
+	
+	
+	//ALL METHODS IN collidingSprites:
+	
+	
+	//method that puts the humans and the power-ups (where they are after moving) in their grids
+	void fillGrids() {
+		this.humanGrid.clear();
+		for(Human h: this.humans) {
+			this.humanGrid.insert(h);
+		}
+		
+		this.powerUpGrid.clear();
+		for(PowerUp p: this.powerUps) {
+			this.powerUpGrid.insert(p);
+		}
+		
+		this.crowd.fillGrid();
+	}
+	
+	
+	//method that checks if the arrow hits a human
+	void arrowHit() {
+		ArrowPool cupidArrows = this.myCupid.getArrows();
+		
+		for(int j = 0; j < cupidArrows.size(); j++) {
+			Arrow a = cupidArrows.get(j);
+			
+			if(!a.isVisible()) {
+				continue;													//the arrow has already hit a human (or left the window)
+			}
+			
+			int nearby = this.humanGrid.query(a);						//only the humans in the same cells as the arrow can be hit
+			
+			for(int i = 0; i < nearby; i++) {
+				Human h = this.humanGrid.getFound(i);
+				
+				if(h.isAlive() && a.collidesWith(h)) {					//check if arrow has hit a human (a human killed this tick is still in the grid)
+					if(h.updateHealth(this.spendArrow(a), this)) {		//decrease the human's health by the arrow's damage
+						this.myCupid.updateScore();
+					}
+					break;
+				}
+			}
+			
+			this.arrowHitCrowd(a);
+		}
+	}
+	
+	
+	//method that checks if the arrow hits a human of the crowd (the first one hit takes all the damage, same rules as the humans above)
+	private void arrowHitCrowd(Arrow a) {
+		if(!a.isVisible()) {
+			return;															//the arrow has already hit a human
+		}
+		
+		double minX = a.x + a.hitboxInsetX;
+		double minY = a.y + a.hitboxInsetY;
+		double maxX = a.x + a.width - a.hitboxInsetX;
+		double maxY = a.y + a.height - a.hitboxInsetY;
+		
+		int i = this.crowd.firstHit(minX, minY, maxX, maxY);			//only the live crowd humans in the same cells as the arrow are checked
+		if(i != -1) {
+			if(this.crowd.updateHealth(i, this.spendArrow(a))) {
+				this.myCupid.updateScore();
+			}
+		}
+	}
+	
+	
+	//method that uses up an arrow that has hit a human, and returns the damage the human takes (for the humans and the crowd)
+	private int spendArrow(Arrow a) {
+		int damage = a.getDamage();
+		
+		a.setDamage(0);											//sets the damage of the arrow to 0 (to ensure that only one human has been hit)
+		a.setVisible(false);									//makes the arrow not visible when it has hit a human
+		return damage;
+	}
+	
+	
+	//method that checks if the human hits cupid
+	void humanHit() {
+		int nearby = this.humanGrid.query(this.myCupid);
+		
+		for(int i = 0; i < nearby; i++) {
+			Human h = this.humanGrid.getFound(i);
+			
+			if(h.isAlive() && this.myCupid.collidesWith(h) && this.myCupid.isAlive()) {	//a human killed this tick is still in the grid
+				h.updateHealth(this.hitCupid(h.getX(), h.getStrength()), this);
+			}
+		}
+		
+		this.crowdHit();
+	}
+	
+	
+	//method that checks if a human of the crowd hits cupid (same rules as humanHit)
+	//the whole crowd is checked, as cupid moves when it bounces off a human (one check per human per tick, like moving them)
+	private void crowdHit() {
+		Cupid c = this.myCupid;
+		
+		double minX = c.x + c.hitboxInsetX;
+		double minY = c.y + c.hitboxInsetY;
+		double maxX = c.x + c.width - c.hitboxInsetX;
+		double maxY = c.y + c.height - c.hitboxInsetY;
+		
+		for(int i = 0; i < this.crowd.size(); i++) {
+			if(this.crowd.isAlive(i) && this.crowd.collidesWith(i, minX, minY, maxX, maxY) && c.isAlive()) {
+				this.crowd.updateHealth(i, this.hitCupid(this.crowd.getX(i), this.crowd.getStrength(i)));
+			}
+		}
+	}
+	
+	
+	//method that applies a human (at x, with the given strength) hitting cupid to cupid, and returns the damage the human takes
+	//used for the humans and the crowd, so both hit cupid the same way
+	private int hitCupid(int humanX, int humanStrength) {
+		int initialStrength = this.myCupid.getStrength();
+		
+		if(this.myCupid.isImmortal()) {
+			return initialStrength;												//if immortal, only the health of the human is updated
+		}
+		
+		this.myCupid.updateStrength(humanStrength);								//decrease cupid strength by strength of human
+		this.myCupid.bounce(humanX);											//make cupid change x position
+		
+		if(GameLog.INFO) GameLog.log(GameLog.CUPID_HIT, humanStrength, this.myCupid.getStrength());
+		
+		return initialStrength;													//the human's health is decreased by the strength of cupid before it was hit
+	}
+	
+	
+	//method that checks if cupid has collided/collected with/a power-up
+	private void collectPowerUp() {
+		int nearby = this.powerUpGrid.query(this.myCupid);
+		
+		for(int i = 0; i < nearby; i++) {
+			PowerUp p = this.powerUpGrid.getFound(i);
+			
+			if(this.myCupid.collidesWith(p)) {
+				p.affectCupid(this.myCupid, this);
+			}
+		}
+	}
+	
+	
+	//method that will spawn 7 humans at a random x,y location (initial)
+	private void spawnHumans(){
+		for (int i = 0; i < GameWorld.INIT_NUM_HUMANS; i++) {
+		
+			int rangeX = ((GameStage.WINDOW_WIDTH-Human.HUMAN_WIDTH)-(GameStage.WINDOW_WIDTH/2))+1;
+			int rangeY = (GameStage.WINDOW_HEIGHT-Human.HUMAN_HEIGHT)-GameTimer.GAME_STATUS_BAR_HEIGHT;
+			
+			int x = this.random.nextInt(rangeX) + (GameStage.WINDOW_WIDTH/2);
+			int y = this.random.nextInt((rangeY)+1) + GameTimer.GAME_STATUS_BAR_HEIGHT;
+			
+			Human h = new Human (x,y, Human.NORMAL, this.random);
+			this.humans.add(h);
+		}
+	}
+	
+	
+	//method that spawns the humans of the crowd at random x,y locations (same ranges and attributes as the normal humans)
+	private void spawnCrowd(int crowdSize) {
+		int rangeX = ((GameStage.WINDOW_WIDTH-Human.HUMAN_WIDTH)-(GameStage.WINDOW_WIDTH/2))+1;
+		int rangeY = (GameStage.WINDOW_HEIGHT-Human.HUMAN_HEIGHT)-GameTimer.GAME_STATUS_BAR_HEIGHT;
+		int rangeStrength = Human.MAX_HUMAN_DAMAGE-Human.MIN_HUMAN_DAMAGE;
+		
+		for(int i = 0; i < crowdSize; i++) {
+			int x = this.random.nextInt(rangeX) + (GameStage.WINDOW_WIDTH/2);
+			int y = this.random.nextInt((rangeY)+1) + GameTimer.GAME_STATUS_BAR_HEIGHT;
+			int speed = this.random.nextInt(Human.MAX_HUMAN_SPEED)+1;
+			int strength = this.random.nextInt(rangeStrength+1)+Human.MIN_HUMAN_DAMAGE;
+			
+			this.crowd.add(x, y, speed, strength, this.random.nextBoolean(), this.random.nextBoolean());
+		}
+	}
+	
+	
+	//KEYFRAMES
+	
+	
+	//method that writes the state of the world into a keyframe, between two ticks (before the keys of the next tick are set)
+	//the grids are not written, they are filled again on every tick
+	void writeState(ByteBuffer out) {
+		out.putLong(this.currentTime).putLong(this.gameTime);
+		this.random.writeState(out);
+		this.gameEvents.writeState(out);
+		this.effectEvents.writeState(out);
+		
+		out.putInt(this.collectedHearts).putInt(this.collectedWings).putInt(this.collectedDolphins);
+		out.putInt(this.collectedAutopilots).putInt(this.collectedSnowflakes);
+		out.put(this.hasWings ? (byte) 1 : 0);
+		out.put(this.hasDolphin ? (byte) 1 : 0);
+		out.put(this.hasBoss ? (byte) 1 : 0);
+		out.put(this.hasAutopilot ? (byte) 1 : 0);
+		out.put(this.hasSnowflake ? (byte) 1 : 0);
+		out.put(this.over ? (byte) 1 : 0);
+		
+		out.putInt(this.keys).putInt(this.previousKeys);
+		out.put(this.fireRequested ? (byte) 1 : 0);
+		out.putLong(this.nextShot);
+		
+		this.myCupid.writeState(out);
+		
+		out.putInt(this.humans.size());
+		for(Human h: this.humans) {
+			h.writeState(out);
+		}
+		
+		out.putInt(this.powerUps.size());
+		for(PowerUp p: this.powerUps) {
+			out.put((byte) WorldSnapshot.powerUpKind(p));
+			p.writeState(out);
+		}
+		
+		this.crowd.writeState(out);
+	}
+	
+	
+	//method that replaces the state of the world with a keyframe written by writeState (the world must have the same tick rate)
+	//the world then goes on from the tick of the keyframe, it does not need to be started
+	void readState(ByteBuffer in) {
+		this.currentTime = in.getLong();
+		this.gameTime = in.getLong();
+		this.random.readState(in);
+		this.gameEvents.readState(in);
+		this.effectEvents.readState(in);
+		
+		this.collectedHearts = in.getInt();
+		this.collectedWings = in.getInt();
+		this.collectedDolphins = in.getInt();
+		this.collectedAutopilots = in.getInt();
+		this.collectedSnowflakes = in.getInt();
+		this.hasWings = in.get() != 0;
+		this.hasDolphin = in.get() != 0;
+		this.hasBoss = in.get() != 0;
+		this.hasAutopilot = in.get() != 0;
+		this.hasSnowflake = in.get() != 0;
+		this.over = in.get() != 0;
+		
+		this.keys = in.getInt();
+		this.previousKeys = in.getInt();
+		this.fireRequested = in.get() != 0;
+		this.nextShot = in.getLong();
+		
+		this.myCupid.readState(in);
+		
+		this.humans.clear();
+		int humanCount = in.getInt();
+		for(int i = 0; i < humanCount; i++) {
+			this.humans.add(new Human(in));
+		}
+		
+		this.powerUps.clear();
+		int powerUpCount = in.getInt();
+		for(int i = 0; i < powerUpCount; i++) {
+			PowerUp p = GameWorld.newPowerUp(in.get());
+			p.readState(in);
+			this.powerUps.add(p);
+		}
+		
+		this.crowd.readState(in);
+	}
+	
+	
+	//method that creates a power-up of the given kind (HEART to SNOWFLAKE of WorldSnapshot)
+	private static PowerUp newPowerUp(int kind) {
+		switch(kind) {
+			case WorldSnapshot.HEART:
+				return new Heart(0,0);
+			case WorldSnapshot.WINGS:
+				return new Wings(0,0);
+			case WorldSnapshot.DOLPHIN:
+				return new Dolphin(0,0);
+			case WorldSnapshot.AUTOPILOT:
+				return new Autopilot(0,0);
+			default:
+				return new Snowflake(0,0);
+		}
+	}
+	
+	
+	//getters
+	long getSeed() {
+		return this.random.getSeed();
+	}
+	
+	Cupid getCupid() {
+		return this.myCupid;
+	}
+	
+	ArrayList<Human> getHumans() {
+		return this.humans;
+	}
+	
+	ArrayList<PowerUp> getPowerUps() {
+		return this.powerUps;
+	}
+	
+	CrowdStore getCrowd() {
+		return this.crowd;
+	}
+	
+	long getCurrentTime() {
+		return this.currentTime;
+	}
+	
+	long getTickTime() {
+		return this.tickTime;
+	}
+	
+	//method that returns the time shown in the game in seconds, which stops while the time is frozen
+	int getRuntime() {
+		return (int) TimeUnit.NANOSECONDS.toSeconds(this.gameTime);
+	}
+	
+	boolean isOver() {
+		return this.over;
+	}
+	
+	boolean hasWings() {
+		return this.hasWings;
+	}
+	
+	boolean hasDolphin() {
+		return this.hasDolphin;
+	}
+	
+	boolean hasAutopilot() {
+		return this.hasAutopilot;
+	}
+	
+	boolean hasSnowflake() {
+		return this.hasSnowflake;
+	}
+	
+	boolean hasBoss() {
+		return this.hasBoss;
+	}
+	
+	int getCollectedHearts() {
+		return this.collectedHearts;
+	}
+	
+	int getCollectedWings() {
+		return this.collectedWings;
+	}
+	
+	int getCollectedDolphins() {
+		return this.collectedDolphins;
+	}
+	
+	int getCollectedAutopilots() {
+		return this.collectedAutopilots;
+	}
+	
+	int getCollectedSnowflakes() {
+		return this.collectedSnowflakes;
+	}
+	
+	
+	//setters
+	//sets the keys held (or pressed) during the next tick, bits KEY_UP to KEY_FIRE
+	void setKeys(int keys) {
+		this.keys = keys;
+	}
+	
+	void setProfiler(FrameProfiler profiler) {
+		this.profiler = profiler;
+	}
+	
+	void setHasWings(boolean value) {
+		this.hasWings = value;
+	}
+	
+	void setHasDolphin(boolean value) {
+		this.hasDolphin = value;
+	}
+	
+	//method that is called with the time wings is collected, and schedules the end of its effect
+	void setWingsTime(long value) {
+		this.scheduleEffect(value, Wings.IMMORTALITY_DURATION, GameWorld.WINGS_EVENT);
+	}
+	
+	//method that is called with the time dolphin is collected, and schedules the end of its effect
+	void setDolphinTime(long value) {
+		this.scheduleEffect(value, Dolphin.SPEED_UP_DURATION, GameWorld.DOLPHIN_EVENT);
+	}
+	
+	void setCollectedHearts() {
+		this.collectedHearts++;
+	}
+	
+	void setCollectedWings() {
+		this.collectedWings++;
+	}
+	
+	void setCollectedDolphins() {
+		this.collectedDolphins++;
+	}
+	
+	void setHasAutopilot(boolean value) {
+		this.hasAutopilot = value;
+	}
+	
+	//method that is called with the time autopilot is collected, and schedules the end of its effect
+	void setAutopilotTime(long value) {
+		this.scheduleEffect(value, Autopilot.AUTOPILOT_DURATION, GameWorld.AUTOPILOT_EVENT);
+	}
+	
+	void setCollectedAutopilots() {
+		this.collectedAutopilots++;
+	}
+	
+	void setHasSnowflake(boolean value) {
+		this.hasSnowflake = value;
+	}
+	
+	//method that is called with the time snowflake is collected, and schedules the end of its effect
+	void setSnowflakeTime(long value) {
+		this.scheduleEffect(value, Snowflake.TIME_FREEZE_DURATION, GameWorld.SNOWFLAKE_EVENT);
+	}
+	
+	void setCollectedSnowflakes() {
+		this.collectedSnowflakes++;
+	}
+	
+	void setHasBoss(boolean value) {
+		this.hasBoss = value;
+	}
+}
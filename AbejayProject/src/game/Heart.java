@@ -9,21 +9,17 @@
 
 package game;
 
-import javafx.scene.image.Image;
-
 class Heart extends PowerUp {
-	//Class constant
-	final static Image HEART_IMAGE = new Image("images/heart.png", PowerUp.POWER_UP_IMAGE_WIDTH, PowerUp.POWER_UP_IMAGE_WIDTH, true, true);
 	
 	Heart(int x, int y){
-		super(x,y,Heart.HEART_IMAGE);
+		super(x,y);
 	}
 
 	@Override
-	void affectCupid(Cupid cupid, GameTimer gametimer) {
-		System.out.println("CUPID has collected a HEART!");
+	void affectCupid(Cupid cupid, GameWorld world) {
+		if(GameLog.INFO) GameLog.log(GameLog.HEART);
 		cupid.doubleStrength();							//double the strength of cupid
-		gametimer.setCollectedHearts();					//increments the game's collected hearts
+		world.setCollectedHearts();					//increments the game's collected hearts
 		this.setVisible(false);							//since heart is collected, heart should not be visible anymore
 	}
 
@@ -0,0 +1,143 @@
+	/***********************************************************	*
+	* This class counts how long something took (in nanoseconds)
+	* and answers percentiles like the median or the 99th
+	* percentile of all the times recorded.
+	*
+	* Times are counted in buckets instead of being stored one by
+	* one. Every power of two is split into 8 buckets, so a bucket
+	* is at most 1/8 (12.5%) wider than the times it holds, from a
+	* few nanoseconds up to minutes. Recording a time only adds 1
+	* to a bucket, so it costs the same on the millionth frame as
+	* on the first one and never creates objects.
+	*
+	* Threading: only one thread records into a histogram, but
+	* other threads read it (the debug overlay and the CSV file of
+	* the FrameProfiler). The buckets, the count and the longest
+	* time are atomics that the recording thread writes with
+	* lazySet (no lock, and no fence that would make it wait), so
+	* a reader sees whole values that are at most a moment old.
+	* A percentile is computed from one pass over the buckets, so
+	* it stays consistent even while times are being recorded.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-17 14:02
+	***********************************************************/
+
+package game;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+class Histogram {
+	private final AtomicLongArray counts;		//number of times recorded in each bucket
+	private final AtomicLong total;				//number of times recorded
+	private final AtomicLong max;				//longest time recorded
+	
+	//Class constants
+	private final static int SUB_BITS = 3;										//each power of two is split into 2^3 = 8 buckets
+	private final static int SUB_BUCKETS = 1 << Histogram.SUB_BITS;
+	private final static int BUCKETS = (64 - Histogram.SUB_BITS + 1) << Histogram.SUB_BITS;
+	
+	
+	Histogram(){
+		this.counts = new AtomicLongArray(Histogram.BUCKETS);
+		this.total = new AtomicLong();
+		this.max = new AtomicLong();
+	}
+	
+	
+	//method that records a time (only called by the thread that owns the histogram, so a get and a lazySet are enough)
+	void record(long value) {
+		if(value < 0) {
+			value = 0;
+		}
+		
+		int bucket = Histogram.bucket(value);
+		this.counts.lazySet(bucket, this.counts.get(bucket) + 1);
+		this.total.lazySet(this.total.get() + 1);
+		
+		if(value > this.max.get()) {
+			this.max.lazySet(value);
+		}
+	}
+	
+	
+	//method that returns the time that the given fraction (0 to 1) of the recorded times are less than or equal to
+	//the time returned is the highest time of its bucket (and never more than the longest time recorded)
+	//the buckets are read once, and the rank counted from them, as the total may already include times recorded since
+	long getPercentile(double fraction) {
+		long[] counts = new long[Histogram.BUCKETS];
+		long total = 0;
+		
+		for(int i = 0; i < Histogram.BUCKETS; i++) {
+			counts[i] = this.counts.get(i);
+			total += counts[i];
+		}
+		
+		long max = this.max.get();
+		if(total == 0) {
+			return 0;
+		}
+		
+		long rank = Math.max(1, (long) Math.ceil(fraction * total));
+		long seen = 0;
+		
+		for(int i = 0; i < Histogram.BUCKETS; i++) {
+			seen += counts[i];
+			
+			if(seen >= rank) {
+				return Math.min(Histogram.highestValue(i), Math.max(max, Histogram.lowestValue(i)));
+			}
+		}
+		return max;
+	}
+	
+	
+	//method that returns the bucket of a time
+	//times below 8 have a bucket each, then every power of two 2^e is split into 8 buckets by the next 3 bits of the time
+	private static int bucket(long value) {
+		if(value < Histogram.SUB_BUCKETS) {
+			return (int) value;
+		}
+		
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int sub = (int) (value >>> (exponent - Histogram.SUB_BITS)) & (Histogram.SUB_BUCKETS - 1);
+		
+		return ((exponent - Histogram.SUB_BITS + 1) << Histogram.SUB_BITS) + sub;
+	}
+	
+	
+	//method that returns the highest time that falls in a bucket
+	private static long highestValue(int bucket) {
+		if(bucket < Histogram.SUB_BUCKETS) {
+			return bucket;
+		}
+		
+		int shift = (bucket >> Histogram.SUB_BITS) - 1;
+		return Histogram.lowestValue(bucket) + (1L << shift) - 1;
+	}
+	
+	
+	//method that returns the lowest time that falls in a bucket
+	private static long lowestValue(int bucket) {
+		if(bucket < Histogram.SUB_BUCKETS) {
+			return bucket;
+		}
+		
+		int exponent = (bucket >> Histogram.SUB_BITS) + Histogram.SUB_BITS - 1;
+		int sub = bucket & (Histogram.SUB_BUCKETS - 1);
+		int shift = exponent - Histogram.SUB_BITS;
+		
+		return (long) (Histogram.SUB_BUCKETS + sub) << shift;
+	}
+	
+	
+	//getters
+	long getCount() {
+		return this.total.get();
+	}
+	
+	long getMax() {
+		return this.max.get();
+	}
+}
@@ -20,11 +20,7 @@
 
 package game;
 
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
-import javafx.scene.paint.Color;
-
-import java.util.Random;
+import java.nio.ByteBuffer;
 
 class Human extends Sprite {
 	private String type;											//type of human
@@ -33,11 +29,12 @@ class Human extends Sprite {
 	private int speed;												//movement speed of human
 	private boolean alive;
 	private boolean moveRight;										//attribute that will determine if a human will initially move to the right
+	private boolean female;											//whether the human is drawn with the female image
 		
 	//Class constants
-	private final static int MIN_HUMAN_DAMAGE = 30;					//minimum damage of a human
-	private final static int MAX_HUMAN_DAMAGE = 40;					//maximum damage of a human
-	private static final int MAX_HUMAN_SPEED = 5;					//maximum speed of a human
+	final static int MIN_HUMAN_DAMAGE = 30;					//minimum damage of a human
+	final static int MAX_HUMAN_DAMAGE = 40;					//maximum damage of a human
+	static final int MAX_HUMAN_SPEED = 5;					//maximum speed of a human
 	
 	final static int BOSS_STRENGTH = 50;							//damage of boss when it hits cupid
 	final static int BOSS_INIT_HEALTH  = 3000;						//initial health of boss when spawned
@@ -49,61 +46,62 @@ class Human extends Sprite {
 	final static String BOSS = "Boss";
 	
 	final static int HUMAN_WIDTH = 80;								//width of human image
-		
-	final static Image MALE_HUMAN_IMAGE = new Image("images/male-human.png",Human.HUMAN_WIDTH,Human.HUMAN_WIDTH,true,true);
-	final static Image FEMALE_HUMAN_IMAGE = new Image("images/female-human.png",Human.HUMAN_WIDTH,Human.HUMAN_WIDTH,true,true);
-	final static Image FEMALE_BOSS = new Image("images/boss-female.png",119,Human.BOSS_HUMAN_HEIGHT,true,true);
-	final static Image MALE_BOSS = new Image("images/boss-male.png",102,Human.BOSS_HUMAN_HEIGHT,true,true);
+	final static int HUMAN_HEIGHT = 80;								//real height of the human image
+	final static int HUMAN_IMAGE_WIDTH = 56;				//real width of the human image (scaled to fit HUMAN_WIDTH)
 	
-	final static int HUMAN_HEIGHT = (int) Human.MALE_HUMAN_IMAGE.getHeight();					//real height of the human image
-	final static int MALE_BOSS_WIDTH = (int) Human.MALE_BOSS.getWidth();						//real width of the male boss image
-	private final static int FEMALE_BOSS_WIDTH = (int) Human.FEMALE_BOSS.getWidth();			//real width of the female boss image
+	final static int MALE_BOSS_WIDTH = 102;							//real width of the male boss image
+	private final static int FEMALE_BOSS_WIDTH = 119;				//real width of the female boss image
 	
+	final static int HITBOX_INSET_X = 8;					//transparent space beside the human's legs and arms
+	final static int HITBOX_INSET_Y = 4;
+	private final static int BOSS_HITBOX_INSET_X = 14;				//same space, for the bigger boss images
+	private final static int BOSS_HITBOX_INSET_Y = 8;
 	
-	Human(int x, int y, String type){
+	
+	Human(int x, int y, String type, GameRandom random){
 		super(x,y);
 		this.alive = true;
 		this.type = type;
 		
-		Random r = new Random();
-		Random s = new Random();
-		
-		int randomSpeed = r.nextInt(Human.MAX_HUMAN_SPEED)+1;			//randomize human speed (1-5)
+		int randomSpeed = random.nextInt(Human.MAX_HUMAN_SPEED)+1;		//randomize human speed (1-5)
 		this.speed = randomSpeed;
 		
-		this.moveRight = s.nextBoolean();								//randomize moveRight attribute
+		this.moveRight = random.nextBoolean();							//randomize moveRight attribute
 		
 		if(type == Human.NORMAL) {
-			this.randomizeImage();
-			this.randomizeStrength();
+			this.randomizeImage(random);
+			this.randomizeStrength(random);
 		}else if (type == Human.LACKEY){
-			this.initLackeyAttributes();
+			this.initLackeyAttributes(random);
 		}else {
-			this.initBossAttributes();
+			this.initBossAttributes(random);
 		}
 		
 	}
 	
 	
+	//creates a human from a keyframe (see writeState)
+	Human(ByteBuffer state){
+		super(0,0);
+		this.readState(state);
+	}
+	
+	
 	//method that randomizes the human image
-	private void randomizeImage() {
-		Random x = new Random();
-		int y = x.nextInt(2);
+	private void randomizeImage(GameRandom random) {
+		int y = random.nextInt(2);
 		
-		if(y == 0) {
-			this.loadImage(Human.MALE_HUMAN_IMAGE);
-		}else {
-			this.loadImage(Human.FEMALE_HUMAN_IMAGE);
-		}
+		this.female = (y != 0);
+		this.setSize(Human.HUMAN_IMAGE_WIDTH, Human.HUMAN_HEIGHT);
+		this.setHitbox(Human.HITBOX_INSET_X, Human.HITBOX_INSET_Y);
 	}
 	
 	
 	//method that randomizes the human strength
-	private void randomizeStrength() {
-		Random x = new Random();
+	private void randomizeStrength(GameRandom random) {
 		int range = Human.MAX_HUMAN_DAMAGE-Human.MIN_HUMAN_DAMAGE;
 		
-		int randomStrength = x.nextInt(range+1)+Human.MIN_HUMAN_DAMAGE;		//randomize strength (from 30 to 40)
+		int randomStrength = random.nextInt(range+1)+Human.MIN_HUMAN_DAMAGE;		//randomize strength (from 30 to 40)
 		
 		this.strength = randomStrength;
 		this.health = this.strength;
@@ -111,17 +109,19 @@ class Human extends Sprite {
 	
 	
 	//method that initializes the boss human attributes
-	private void initBossAttributes() {
-		Random x = new Random();
-		int y = x.nextInt(2);
+	private void initBossAttributes(GameRandom random) {
+		int y = random.nextInt(2);
 		
 		if(y == 0) {
-			this.loadImage(Human.MALE_BOSS);
+			this.female = false;
+			this.setSize(Human.MALE_BOSS_WIDTH, Human.BOSS_HUMAN_HEIGHT);
 			this.x = GameStage.WINDOW_WIDTH - Human.MALE_BOSS_WIDTH;
 		}else {
-			this.loadImage(Human.FEMALE_BOSS);
+			this.female = true;
+			this.setSize(Human.FEMALE_BOSS_WIDTH, Human.BOSS_HUMAN_HEIGHT);
 			this.x = GameStage.WINDOW_WIDTH - Human.FEMALE_BOSS_WIDTH;
 		}
+		this.setHitbox(Human.BOSS_HITBOX_INSET_X, Human.BOSS_HITBOX_INSET_Y);
 		
 		this.strength = Human.BOSS_STRENGTH;
 		this.health = Human.BOSS_INIT_HEALTH;
@@ -129,89 +129,72 @@ class Human extends Sprite {
 	
 	
 	//method that initializes the lackey human attributes
-	private void initLackeyAttributes() {
-		this.randomizeImage();
+	private void initLackeyAttributes(GameRandom random) {
+		this.randomizeImage(random);
 		this.strength = Human.LACKEY_STRENGTH;
 		this.health = Human.LACKEY_STRENGTH;
 	}
 	
 	
-	//overrides the render method of sprite, includes text showing the cupids's strength
-	@Override
-	void render(GraphicsContext gc) {
-		super.render(gc);
-			
-		gc.setFont(Cupid.DEFAULT_FONT);		
-		gc.setFill(Color.WHITE);
-			
-		if(this.getHealth() >= 100) {
-			gc.fillText(this.getHealth() + "", this.getX()+20, this.getY()+8);
-		}else if(this.getHealth() >= 10 && this.getHealth() < 100) {
-			gc.fillText(this.getHealth() + "", this.getX()+25, this.getY()+8);
-		}else {
-			gc.fillText(this.getHealth() + "", this.getX()+30, this.getY()+8);
+	//method that changes the x position of the human
+	//scale is the number of 1/60-second frames the move covers (the speed is the distance moved in one of them)
+	void move(int scale){		
+		int distance = this.speed * scale;
+		
+		if(Human.isAtSide(this.x, distance, this.moveRight, this.getSideWidth())) {
+			this.moveRight = !this.moveRight;		//human is at the rightmost/leftmost side of the window, make it turn around
+		}else if(this.moveRight) {					//human is moving to the right
+			this.x += distance;						//increment x by speed
+		}else {										//human is moving to the left
+			this.x -= distance;						//decrement x by speed
 		}
-			
 	}
 	
-
-	//method that changes the x position of the human
-	void move(){		
-		if(this.moveRight) {						//human is moving to the right
-			
-			if(!this.isRightBounds()) {				//human is not yet at the rightmost side of the window
-				this.x += this.speed;				//increment x by speed
-			}else {									//human is at the rightmost side of the window
-				this.moveRight = false;				//make human move to the left
-			}
-			
-		}else {										//human is moving to the left
-			
-			if(!this.isLeftBounds()) {				//human is not yet at the leftmost side of the window
-				this.x -= this.speed;				//decrement x by speed
-			}else {									//human is at the leftmost side of the window
-				this.moveRight = true;				//make human move to the right
-			}
-			
-		}	
+	
+	//method that checks if a human at x, moving by distance to the right (or left), has reached the right (or left) side of the window
+	//width is the width of the human at the right side; used by the crowd too (CrowdStore), so all humans turn around at the same places
+	static boolean isAtSide(int x, int distance, boolean moveRight, int width) {
+		if(moveRight) {
+			return x + distance + width >= GameStage.WINDOW_WIDTH;		//rightmost side of the window
+		}
+		return x + distance <= 0;										//leftmost side of the window
 	}
 	
 	
-	//method that checks if the human has reached the right boundary
-	private boolean isRightBounds() {
-		int temp;
-		
+	//method that returns the width of the human used for the right side of the window
+	private int getSideWidth() {
 		if(this.type == Human.NORMAL) {
-			temp = this.x + this.speed + Human.HUMAN_WIDTH;
-		}else {
-			if(this.img == Human.FEMALE_BOSS) {
-				temp = this.x + this.speed + Human.FEMALE_BOSS_WIDTH;
-			}else {
-				temp = this.x + this.speed + Human.MALE_BOSS_WIDTH;
-			}
-			
-		}
-		
-		
-		if(temp < GameStage.WINDOW_WIDTH) {			//check if temp is less than window width (rightmost side of window)
-			return false;							//human is not at the right boundary yet
-		}else {
-			return true;							//human is at the right boundary
+			return Human.HUMAN_WIDTH;
+		}else if(this.type == Human.BOSS && this.female) {
+			return Human.FEMALE_BOSS_WIDTH;
 		}
+		return Human.MALE_BOSS_WIDTH;
 	}
 	
 	
-	//method that checks if the human has reached the left boundary
-	private boolean isLeftBounds() {
-		int temp;
-		
-		temp = this.x + this.speed;
-		
-		if(temp > 0) {								//check if temp is greater than 0 (leftmost side of the window)
-			return false;							//human is not at the left boundary yet
-		}else {
-			return true;							//human is at the left boundary
-		}
+	//methods that write/read the human and its stats to/from a keyframe
+	//the type is written as a number, and read back as the same constant (types are compared with ==)
+	@Override
+	void writeState(ByteBuffer out) {
+		super.writeState(out);
+		out.put(this.type == Human.NORMAL ? (byte) 0 : this.type == Human.LACKEY ? (byte) 1 : (byte) 2);
+		out.putInt(this.strength).putInt(this.health).putInt(this.speed);
+		out.put(this.alive ? (byte) 1 : 0);
+		out.put(this.moveRight ? (byte) 1 : 0);
+		out.put(this.female ? (byte) 1 : 0);
+	}
+	
+	@Override
+	void readState(ByteBuffer in) {
+		super.readState(in);
+		byte type = in.get();
+		this.type = type == 0 ? Human.NORMAL : type == 1 ? Human.LACKEY : Human.BOSS;
+		this.strength = in.getInt();
+		this.health = in.getInt();
+		this.speed = in.getInt();
+		this.alive = in.get() != 0;
+		this.moveRight = in.get() != 0;
+		this.female = in.get() != 0;
 	}
 	
 	
@@ -232,40 +215,51 @@ class Human extends Sprite {
 		return this.type;
 	}
 	
+	boolean isFemale() {
+		return this.female;
+	}
+	
 	
 	//setters
 	
-	//method that sets the alive attribute to false
+	//method that sets the alive attribute to false (a dead human is no longer visible, and is removed from the game)
 	private void die() {
 		this.alive = false;
+		this.setVisible(false);
 	}
 	
-	//method that updates the human's health
-	void updateHealth(int damage, GameTimer game) {
-		this.health -= damage;								//decrease human health by the damage
+	//method that updates the human's health, and returns true if the human died because of the damage
+	boolean updateHealth(int damage, GameWorld game) {
+		if(!this.alive) {
+			return false;									//a dead human takes no more damage (it stays in the grids until the next tick)
+		}
+		
+		this.health = Human.damaged(this.health, damage);	//decrease human health by the damage (not below 0)
 		this.updateStrength(damage);						//call the updateStrength method
 		
-		if(this.health <= 0) {								//check if health is 0 or less than 0
-			this.health = 0;								//set health to 0		
+		if(this.health == 0) {
 			this.die();
 			
 			if(this.type == Human.BOSS) {					//check if the human is a boss human
 				game.setHasBoss(false);						//set the hasBoss attribute to false
 			}
+			return true;
 		}
+		return false;
 	}
 	
 	//method that updates the human's strength
 	//does not implement on a BOSS type human, as the BOSS's strength is consistently 50
 	private void updateStrength(int damage) {
 		if(this.type != BOSS) {								//checks if the human is not a boss
-			this.strength -= damage;						//decrease human's strength by the damage
-			
-			if(this.strength <= 0) {						//check if the strength is 0 or less than 0
-				this.strength = 0;							//set strength to 0
-			}
+			this.strength = Human.damaged(this.strength, damage);	//decrease human's strength by the damage (not below 0)
 		}
-		
+	}
+	
+	//method that returns what is left of a health or strength after damage (never less than 0)
+	//used by the crowd too (CrowdStore.updateHealth), so all humans take damage the same way
+	static int damaged(int value, int damage) {
+		return Math.max(value - damage, 0);
 	}
 
 }
@@ -12,21 +12,21 @@
 
 package game;
 
-import javafx.scene.image.Image;
-
 abstract class PowerUp extends Sprite {	
 	
 	//Class constants
 	final static int SPAWN_TIME = 10;						//power-ups are spawn every 10 seconds
 	final static int IDLE_TIME = 5;							//power-ups can stay uncollected for 5 seconds
 	final static int POWER_UP_IMAGE_WIDTH = 45;				//fixed image size for power-ups
+	private final static int HITBOX_INSET = 5;				//transparent space around the power-up icons
 																	
 	
-	PowerUp(int x, int y, Image image){
+	PowerUp(int x, int y){
 		super(x,y);
-		this.loadImage(image);
+		this.setSize(PowerUp.POWER_UP_IMAGE_WIDTH, PowerUp.POWER_UP_IMAGE_WIDTH);
+		this.setHitbox(PowerUp.HITBOX_INSET, PowerUp.HITBOX_INSET);
 	}
 	
-	abstract void affectCupid(Cupid cupid, GameTimer gametimer);	//method to change the stats of the cupid and the game (once collected)
+	abstract void affectCupid(Cupid cupid, GameWorld world);		//method to change the stats of the cupid and the game (once collected)
 	
 }
@@ -0,0 +1,434 @@
+	/***********************************************************	*
+	* This class records a game so it can be played again, and
+	* plays it back.
+	*
+	* Since the world draws every random number from its seed (see
+	* GameRandom), a game is fully given by its seed, its tick rate,
+	* its crowd size and the keys held on each tick. A replay keeps
+	* only those: the keys are stored as runs of ticks with the same
+	* keys, and each run is one varint (the length of the run, with
+	* the 5 key bits below it). Keys change only a few times a
+	* second, so a 60-second game takes a few hundred bytes.
+	*
+	* The score, the strength and the number of ticks at the end of
+	* the recorded game are stored too, so a replay played again
+	* can check that the game still ends the same way (a change in
+	* the rules or a bug that makes the game depend on something
+	* other than the seed and the keys shows up as a mismatch).
+	*
+	* While a game is recorded for an archive, the whole state of
+	* the world is also kept every KEYFRAME_SECONDS seconds (a keyframe), with
+	* the place in the runs where its tick starts. seek starts
+	* from the last keyframe before a tick and only plays the
+	* ticks after it, so any second of a game is reached without
+	* playing it from the start. Keyframes are saved in a replay
+	* archive (see ReplayArchive), not in a single replay file, so
+	* a game only recorded to a file does not take them.
+	*
+	* File format (numbers in big-endian, varints as unsigned
+	* LEB128, signed values zigzag-encoded):
+	* 	- MAGIC (int), VERSION (byte), seed (long)
+	* 	- tick rate, crowd size, ticks, score, strength (varints)
+	* 	- the runs of keys, up to the end of the file (varints)
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-18 13:25
+	***********************************************************/
+
+package game;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+class Replay {
+	private final long seed;
+	private final int tickRate;
+	private final int crowdSize;
+	
+	private byte[] runs;							//encoded runs of keys (while recording)
+	private int length;								//number of bytes used in runs
+	private ByteBuffer source;						//encoded runs of keys played (from the runs, a file or an archive)
+	private int runKeys;							//keys of the run being recorded
+	private int runLength;							//number of ticks in the run being recorded
+	
+	//checksum of the recorded game
+	private int ticks;
+	private int score;
+	private int strength;
+	
+	//keyframes
+	private int keyframeCount;
+	private int[] keyframeTicks;					//tick each keyframe was taken at (before the keys of the tick)
+	private int[] keyframeRuns;						//place in the runs of the first run after each keyframe
+	private ByteBuffer[] keyframeStates;			//state of the world at each keyframe (GameWorld.writeState)
+	private ByteBuffer scratch;						//buffer the state is written to before it is copied into a keyframe
+	private final boolean keepKeyframes;			//whether keyframes are taken while recording (only for an archive)
+	
+	//playback
+	private ByteBuffer cursor;						//next run to play
+	private int playKeys;							//keys of the run being played
+	private int playLeft;							//number of ticks left in the run being played
+	private int played;								//number of ticks played
+	
+	//Class constants
+	final static int END = -1;						//returned by nextKeys after the last recorded tick
+	final static int KEYFRAME_SECONDS = 5;			//seconds of game between two keyframes
+	
+	private final static int MAGIC = 0x43555052;	//"CUPR"
+	private final static byte VERSION = 1;
+	private final static int KEY_BITS = 5;			//number of bits of the keys (KEY_UP to KEY_FIRE of GameWorld)
+	private final static int KEY_MASK = (1 << Replay.KEY_BITS) - 1;
+	private final static int HEADER_SIZE = 4 + 1 + 8 + 5 * 5;		//largest header (a varint takes up to 5 bytes)
+	private final static int INITIAL_CAPACITY = 256;
+	private final static int INITIAL_STATE_SIZE = 16384;
+	
+	
+	//creates an empty replay, to record a game made with the given seed, tick rate and crowd size (without keyframes)
+	Replay(long seed, int tickRate, int crowdSize){
+		this(seed, tickRate, crowdSize, false);
+	}
+	
+	
+	//creates an empty replay, keepKeyframes is true if it will be appended to an archive (see ReplayArchive)
+	Replay(long seed, int tickRate, int crowdSize, boolean keepKeyframes){
+		this.seed = seed;
+		this.keepKeyframes = keepKeyframes;
+		this.tickRate = tickRate;
+		this.crowdSize = crowdSize;
+		
+		this.runs = new byte[Replay.INITIAL_CAPACITY];
+		this.runKeys = Replay.END;
+		
+		this.keyframeTicks = new int[Replay.INITIAL_CAPACITY];
+		this.keyframeRuns = new int[Replay.INITIAL_CAPACITY];
+		this.keyframeStates = new ByteBuffer[Replay.INITIAL_CAPACITY];
+	}
+	
+	
+	//creates a recorded replay, to play the given runs of keys (the keyframes are added with addKeyframe)
+	Replay(long seed, int tickRate, int crowdSize, int ticks, int score, int strength, ByteBuffer runs){
+		this(seed, tickRate, crowdSize);
+		this.ticks = ticks;
+		this.score = score;
+		this.strength = strength;
+		this.source = runs;
+	}
+	
+	
+	//method that returns a new world, ready to play the recorded game
+	GameWorld newWorld() {
+		return new GameWorld(this.tickRate, this.crowdSize, this.seed);
+	}
+	
+	
+	//RECORDING
+	
+	
+	//method that records the keys of the next tick, called before the keys are given to the world
+	//every KEYFRAME_SECONDS seconds, the state of the world is kept first as a keyframe (if keyframes are kept)
+	void record(GameWorld world, int keys) {
+		if(this.keepKeyframes && this.ticks % (this.tickRate * Replay.KEYFRAME_SECONDS) == 0) {
+			this.keyframe(world);
+		}
+		
+		keys &= Replay.KEY_MASK;
+		this.ticks++;
+		
+		if(keys == this.runKeys) {
+			this.runLength++;
+		}else {
+			this.endRun();
+			this.runKeys = keys;
+			this.runLength = 1;
+		}
+	}
+	
+	
+	//method that keeps the state of the world as a keyframe of the current tick
+	//the run being recorded is ended first, so the keys after the keyframe start with a new run
+	private void keyframe(GameWorld world) {
+		this.endRun();
+		
+		if(this.scratch == null) {
+			this.scratch = ByteBuffer.allocate(Replay.INITIAL_STATE_SIZE);
+		}
+		
+		while(true) {
+			try {
+				this.scratch.clear();
+				world.writeState(this.scratch);
+				break;
+			}catch(BufferOverflowException e) {
+				this.scratch = ByteBuffer.allocate(this.scratch.capacity() * 2);		//a big crowd, try again with a bigger buffer
+			}
+		}
+		
+		this.scratch.flip();
+		ByteBuffer state = ByteBuffer.allocate(this.scratch.remaining());
+		state.put(this.scratch).flip();
+		
+		this.addKeyframe(this.ticks, this.length, state);
+	}
+	
+	
+	//method that adds a keyframe: the state of the world at the tick, and the place in the runs where the keys of the tick start
+	void addKeyframe(int tick, int runOffset, ByteBuffer state) {
+		if(this.keyframeCount == this.keyframeTicks.length) {
+			int capacity = this.keyframeCount * 2;
+			this.keyframeTicks = Arrays.copyOf(this.keyframeTicks, capacity);
+			this.keyframeRuns = Arrays.copyOf(this.keyframeRuns, capacity);
+			this.keyframeStates = Arrays.copyOf(this.keyframeStates, capacity);
+		}
+		
+		this.keyframeTicks[this.keyframeCount] = tick;
+		this.keyframeRuns[this.keyframeCount] = runOffset;
+		this.keyframeStates[this.keyframeCount] = state;
+		this.keyframeCount++;
+	}
+	
+	
+	//method that ends the recording, and keeps the score and strength the game ended with
+	void finish(GameWorld world) {
+		this.endRun();
+		this.score = world.getCupid().getScore();
+		this.strength = world.getCupid().getStrength();
+	}
+	
+	
+	//method that saves the replay in a file
+	void write(Path file) throws IOException {
+		ByteBuffer runs = this.getRuns();
+		ByteBuffer buffer = ByteBuffer.allocate(Replay.HEADER_SIZE + runs.remaining());
+		
+		buffer.putInt(Replay.MAGIC);
+		buffer.put(Replay.VERSION);
+		buffer.putLong(this.seed);
+		Replay.putVarint(buffer, this.tickRate);
+		Replay.putVarint(buffer, this.crowdSize);
+		Replay.putVarint(buffer, this.ticks);
+		Replay.putVarint(buffer, Replay.zigzag(this.score));
+		Replay.putVarint(buffer, Replay.zigzag(this.strength));
+		buffer.put(runs);
+		
+		Files.write(file, Arrays.copyOf(buffer.array(), buffer.position()));
+	}
+	
+	
+	//method that reads a replay saved by write
+	static Replay read(Path file) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+		
+		try {
+			if(buffer.getInt() != Replay.MAGIC || buffer.get() != Replay.VERSION) {
+				throw new IOException("Not a replay (or a replay of another version): " + file);
+			}
+			
+			long seed = buffer.getLong();
+			int tickRate = Replay.getVarint(buffer);
+			int crowdSize = Replay.getVarint(buffer);
+			
+			int ticks = Replay.getVarint(buffer);
+			int score = Replay.unzigzag(Replay.getVarint(buffer));
+			int strength = Replay.unzigzag(Replay.getVarint(buffer));
+			
+			return new Replay(seed, tickRate, crowdSize, ticks, score, strength, buffer.slice());
+		}catch(BufferUnderflowException e) {
+			throw new IOException("Replay is cut short: " + file, e);
+		}
+	}
+	
+	
+	//method that adds the run being recorded to the runs
+	private void endRun() {
+		if(this.runLength == 0) {
+			return;
+		}
+		
+		if(this.length + 5 > this.runs.length) {
+			this.runs = Arrays.copyOf(this.runs, this.runs.length * 2);
+		}
+		
+		ByteBuffer buffer = ByteBuffer.wrap(this.runs, this.length, this.runs.length - this.length);
+		Replay.putVarint(buffer, (this.runLength << Replay.KEY_BITS) | this.runKeys);
+		this.length = buffer.position();
+		
+		this.runLength = 0;
+	}
+	
+	
+	//PLAYBACK
+	
+	
+	//method that returns the keys of the next recorded tick, or END after the last one
+	int nextKeys() {
+		if(this.cursor == null) {
+			this.cursor = this.getRuns();
+		}
+		
+		if(this.playLeft == 0) {
+			if(!this.cursor.hasRemaining()) {
+				return Replay.END;
+			}
+			
+			int run = Replay.getVarint(this.cursor);
+			this.playKeys = run & Replay.KEY_MASK;
+			this.playLeft = run >>> Replay.KEY_BITS;
+		}
+		
+		this.playLeft--;
+		this.played++;
+		return this.playKeys;
+	}
+	
+	
+	//method that returns a world at the given tick of the recorded game (0 for the start), and plays on from that tick
+	//the world is read from the last keyframe at or before the tick and played up to it, without drawing it
+	GameWorld seek(int tick) {
+		int k = this.keyframeCount - 1;
+		while(k >= 0 && this.keyframeTicks[k] > tick) {
+			k--;
+		}
+		
+		GameWorld world = this.newWorld();
+		this.cursor = this.getRuns();
+		this.playLeft = 0;
+		
+		if(k >= 0) {
+			world.readState(this.keyframeStates[k].duplicate());
+			this.cursor.position(this.keyframeRuns[k]);
+			this.played = this.keyframeTicks[k];
+		}else {
+			world.start(0);										//no keyframes (a replay file), play from the start
+			this.played = 0;
+		}
+		
+		while(this.played < tick && !world.isOver()) {
+			int keys = this.nextKeys();
+			if(keys == Replay.END) {
+				break;
+			}
+			
+			world.setKeys(keys);
+			world.step();
+		}
+		return world;
+	}
+	
+	
+	//method that plays the rest of the recorded game on the given world (from seek) as fast as possible, without drawing it
+	//returns whether the game ended the same way as the recorded one
+	boolean play(GameWorld world) {
+		while(!world.isOver()) {
+			int keys = this.nextKeys();
+			if(keys == Replay.END) {
+				break;
+			}
+			
+			world.setKeys(keys);
+			world.step();
+		}
+		return this.matches(world);
+	}
+	
+	
+	//method that returns whether the game played so far ended the same way as the recorded one
+	boolean matches(GameWorld world) {
+		return world.isOver() && this.played == this.ticks
+				&& world.getCupid().getScore() == this.score && world.getCupid().getStrength() == this.strength;
+	}
+	
+	
+	//method that returns the runs of keys, from the first one
+	ByteBuffer getRuns() {
+		if(this.source != null) {
+			return this.source.duplicate();
+		}
+		return ByteBuffer.wrap(this.runs, 0, this.length).slice();
+	}
+	
+	
+	//getters
+	long getSeed() {
+		return this.seed;
+	}
+	
+	int getTickRate() {
+		return this.tickRate;
+	}
+	
+	int getCrowdSize() {
+		return this.crowdSize;
+	}
+	
+	int getTicks() {
+		return this.ticks;
+	}
+	
+	int getScore() {
+		return this.score;
+	}
+	
+	int getStrength() {
+		return this.strength;
+	}
+	
+	int getKeyframeCount() {
+		return this.keyframeCount;
+	}
+	
+	int getKeyframeTick(int k) {
+		return this.keyframeTicks[k];
+	}
+	
+	int getKeyframeRuns(int k) {
+		return this.keyframeRuns[k];
+	}
+	
+	ByteBuffer getKeyframeState(int k) {
+		return this.keyframeStates[k].duplicate();
+	}
+	
+	
+	//ENCODING
+	
+	
+	//method that writes a number as a varint (7 bits per byte, the top bit set on every byte but the last)
+	private static void putVarint(ByteBuffer buffer, int value) {
+		while((value & ~0x7f) != 0) {
+			buffer.put((byte) ((value & 0x7f) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+	
+	
+	//method that reads a number written by putVarint
+	private static int getVarint(ByteBuffer buffer) {
+		int value = 0;
+		
+		for(int shift = 0; shift < 32; shift += 7) {
+			byte b = buffer.get();
+			value |= (b & 0x7f) << shift;
+			
+			if(b >= 0) {
+				return value;
+			}
+		}
+		throw new BufferUnderflowException();				//more than 5 bytes, the file is broken
+	}
+	
+	
+	//methods that map signed numbers to unsigned ones, so small negative numbers still take few bytes
+	private static int zigzag(int value) {
+		return (value << 1) ^ (value >> 31);
+	}
+	
+	private static int unzigzag(int value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+}
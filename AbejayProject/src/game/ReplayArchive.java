@@ -0,0 +1,265 @@
+	/***********************************************************	*
+	* This class keeps many recorded games (sessions) in one file
+	* that only grows: a finished game is appended at the end, and
+	* what is already written is never changed.
+	*
+	* The file is read through a memory map (FileChannel.map), so
+	* opening it only walks the headers of the sessions, and the
+	* summary of a session (seed, ticks, score, strength) is read
+	* straight from the mapped file, without copying or decoding
+	* anything. A session keeps, besides its runs of keys, the
+	* keyframes of its Replay (the whole state of the world every
+	* few seconds) and an index of them, so getReplay(i).seek(tick)
+	* starts from the last keyframe before the tick instead of
+	* playing the game from the start.
+	*
+	* Appending locks the file, so several games (or machines
+	* sharing the file) can append to the same archive. The file
+	* lock is held for the whole JVM, so games of the same JVM
+	* also take a lock of their own for the file first (one object
+	* per path, in appendLocks), and append one after the other
+	* instead of failing with an OverlappingFileLockException. A session
+	* cut short by a crash while it was appended is left out when
+	* the archive is opened, and cut off by the next append.
+	*
+	* File format (big-endian):
+	* 	- MAGIC (int), VERSION (int)
+	* 	- the sessions, one after the other:
+	* 	  SESSION_MAGIC (int), size of the session in bytes (int),
+	* 	  seed (long), tick rate, crowd size, ticks, score,
+	* 	  strength, size of the runs, number of keyframes (ints),
+	* 	  the index of the keyframes (tick, place in the runs,
+	* 	  place of the state in the session, size of the state,
+	* 	  4 ints each), the runs of keys, the keyframe states
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-18 14:40
+	***********************************************************/
+
+package game;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+class ReplayArchive {
+	private final MappedByteBuffer map;				//the whole file, read-only
+	private int[] sessions;							//place of each session in the file
+	private int count;								//number of sessions
+	private int end;								//place in the file after the last session
+	
+	private final static ConcurrentHashMap<Path, Object> appendLocks = new ConcurrentHashMap<Path, Object>();	//lock of each archive appended to by this JVM, by absolute path
+	
+	//Class constants
+	private final static int MAGIC = 0x43555041;			//"CUPA"
+	private final static int VERSION = 1;
+	private final static int SESSION_MAGIC = 0x53455353;	//"SESS"
+	private final static int FILE_HEADER_SIZE = 8;
+	
+	//places of the fields in a session
+	private final static int SIZE = 4;
+	private final static int SEED = 8;
+	private final static int TICK_RATE = 16;
+	private final static int CROWD_SIZE = 20;
+	private final static int TICKS = 24;
+	private final static int SCORE = 28;
+	private final static int STRENGTH = 32;
+	private final static int RUNS_SIZE = 36;
+	private final static int KEYFRAME_COUNT = 40;
+	private final static int KEYFRAME_INDEX = 44;
+	private final static int KEYFRAME_ENTRY_SIZE = 16;
+	
+	
+	private ReplayArchive(MappedByteBuffer map){
+		this.map = map;
+		this.sessions = new int[64];
+		
+		//walk the headers of the sessions (a session cut short at the end of the file is left out)
+		int position = ReplayArchive.FILE_HEADER_SIZE;
+		while(position + ReplayArchive.KEYFRAME_INDEX <= map.limit()) {
+			int size = map.getInt(position + ReplayArchive.SIZE);
+			
+			if(map.getInt(position) != ReplayArchive.SESSION_MAGIC || size < ReplayArchive.KEYFRAME_INDEX || size > map.limit() - position) {
+				break;
+			}
+			
+			if(this.count == this.sessions.length) {
+				this.sessions = Arrays.copyOf(this.sessions, this.count * 2);
+			}
+			this.sessions[this.count++] = position;
+			position += size;
+		}
+		this.end = position;
+	}
+	
+	
+	//method that maps an archive file and finds its sessions
+	static ReplayArchive open(Path file) throws IOException {
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			return ReplayArchive.map(channel, file);
+		}
+	}
+	
+	
+	//method that maps the whole file of the channel (the map stays valid after the channel is closed)
+	private static ReplayArchive map(FileChannel channel, Path file) throws IOException {
+		long size = channel.size();
+		
+		if(size > Integer.MAX_VALUE) {
+			throw new IOException("Archive is bigger than 2 GB, start a new one: " + file);
+		}
+		if(size < ReplayArchive.FILE_HEADER_SIZE) {
+			throw new IOException("Not a replay archive: " + file);
+		}
+		
+		MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		if(map.getInt(0) != ReplayArchive.MAGIC || map.getInt(4) != ReplayArchive.VERSION) {
+			throw new IOException("Not a replay archive (or an archive of another version): " + file);
+		}
+		return new ReplayArchive(map);
+	}
+	
+	
+	//method that appends a finished replay (and its keyframes) to the end of an archive file, created if it does not exist
+	static void append(Path file, Replay replay) throws IOException {
+		ByteBuffer runs = replay.getRuns();
+		int keyframes = replay.getKeyframeCount();
+		
+		long size = ReplayArchive.KEYFRAME_INDEX + (long) keyframes * ReplayArchive.KEYFRAME_ENTRY_SIZE + runs.remaining();
+		for(int k = 0; k < keyframes; k++) {
+			size += replay.getKeyframeState(k).remaining();
+		}
+		
+		if(size > Integer.MAX_VALUE) {
+			throw new IOException("Replay is too big for an archive");
+		}
+		
+		Path key = file.toAbsolutePath().normalize();
+		Object appending = new Object();
+		Object previous = ReplayArchive.appendLocks.putIfAbsent(key, appending);
+		if(previous != null) {
+			appending = previous;
+		}
+		
+		synchronized(appending) {							//one append at a time in this JVM, the file lock keeps out the other processes
+			try(FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				FileLock lock = channel.lock();
+				try {
+					ReplayArchive.append(channel, file, replay, size);
+				}finally {
+					lock.release();
+				}
+			}
+		}
+	}
+	
+	
+	//method that appends a session of the given size to the archive, called with the file locked
+	private static void append(FileChannel channel, Path file, Replay replay, long size) throws IOException {
+		ByteBuffer runs = replay.getRuns();
+		int keyframes = replay.getKeyframeCount();
+		
+		long end = channel.size();
+		
+		if(end != 0) {
+			long valid = ReplayArchive.map(channel, file).end;		//after the last whole session
+			if(valid < end) {
+				channel.truncate(valid);							//drops a session cut short by a crash
+				end = valid;
+			}
+		}
+		int header = (end == 0) ? ReplayArchive.FILE_HEADER_SIZE : 0;
+		
+		if(end + header + size > Integer.MAX_VALUE) {
+			throw new IOException("Archive is full (2 GB), start a new one: " + file);
+		}
+		
+		MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, end, header + size);
+		if(header != 0) {
+			out.putInt(ReplayArchive.MAGIC).putInt(ReplayArchive.VERSION);
+		}
+		
+		out.putInt(ReplayArchive.SESSION_MAGIC).putInt((int) size);
+		out.putLong(replay.getSeed());
+		out.putInt(replay.getTickRate()).putInt(replay.getCrowdSize());
+		out.putInt(replay.getTicks()).putInt(replay.getScore()).putInt(replay.getStrength());
+		out.putInt(runs.remaining()).putInt(keyframes);
+		
+		int state = ReplayArchive.KEYFRAME_INDEX + keyframes * ReplayArchive.KEYFRAME_ENTRY_SIZE + runs.remaining();
+		for(int k = 0; k < keyframes; k++) {
+			int stateSize = replay.getKeyframeState(k).remaining();
+			
+			out.putInt(replay.getKeyframeTick(k)).putInt(replay.getKeyframeRuns(k)).putInt(state).putInt(stateSize);
+			state += stateSize;
+		}
+		
+		out.put(runs);
+		for(int k = 0; k < keyframes; k++) {
+			out.put(replay.getKeyframeState(k));
+		}
+		
+		out.force();
+	}
+	
+	
+	//method that returns the replay of a session, with its keyframes
+	//the runs and the keyframes are not copied, they are read from the mapped file when the replay is played
+	Replay getReplay(int session) {
+		int start = this.sessions[session];
+		int keyframes = this.map.getInt(start + ReplayArchive.KEYFRAME_COUNT);
+		int runs = start + ReplayArchive.KEYFRAME_INDEX + keyframes * ReplayArchive.KEYFRAME_ENTRY_SIZE;
+		
+		Replay replay = new Replay(this.getSeed(session), this.getTickRate(session), this.map.getInt(start + ReplayArchive.CROWD_SIZE),
+				this.getTicks(session), this.getScore(session), this.getStrength(session),
+				this.slice(runs, this.map.getInt(start + ReplayArchive.RUNS_SIZE)));
+		
+		for(int k = 0; k < keyframes; k++) {
+			int entry = start + ReplayArchive.KEYFRAME_INDEX + k * ReplayArchive.KEYFRAME_ENTRY_SIZE;
+			
+			replay.addKeyframe(this.map.getInt(entry), this.map.getInt(entry + 4),
+					this.slice(start + this.map.getInt(entry + 8), this.map.getInt(entry + 12)));
+		}
+		return replay;
+	}
+	
+	
+	//method that returns a buffer over a part of the mapped file (sharing its memory)
+	private ByteBuffer slice(int position, int size) {
+		ByteBuffer buffer = this.map.duplicate();
+		buffer.position(position);
+		buffer.limit(position + size);
+		return buffer.slice();
+	}
+	
+	
+	//getters (read straight from the mapped file)
+	int size() {
+		return this.count;
+	}
+	
+	long getSeed(int session) {
+		return this.map.getLong(this.sessions[session] + ReplayArchive.SEED);
+	}
+	
+	int getTickRate(int session) {
+		return this.map.getInt(this.sessions[session] + ReplayArchive.TICK_RATE);
+	}
+	
+	int getTicks(int session) {
+		return this.map.getInt(this.sessions[session] + ReplayArchive.TICKS);
+	}
+	
+	int getScore(int session) {
+		return this.map.getInt(this.sessions[session] + ReplayArchive.SCORE);
+	}
+	
+	int getStrength(int session) {
+		return this.map.getInt(this.sessions[session] + ReplayArchive.STRENGTH);
+	}
+}
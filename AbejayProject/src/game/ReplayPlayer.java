@@ -0,0 +1,97 @@
+	/***********************************************************	*
+	* This class plays recorded games (see Replay) without showing
+	* them, as fast as the CPU allows, and checks that each one
+	* still ends with the score and strength it was recorded with.
+	*
+	* Usage: java -Dcupid.log=off -cp <classes> game.ReplayPlayer <files>
+	* 	plays every replay file, and every session of every replay
+	* 	archive (see ReplayArchive), and prints one line for each.
+	* 	It exits with 1 if a file could not be read or a game did
+	* 	not end like the recorded one.
+	*
+	* Usage: java -Dcupid.log=off -cp <classes> game.ReplayPlayer seek <archive> <session> <second>
+	* 	prints the state of a session of an archive at the given
+	* 	second, read from the keyframe before it.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-18 13:50
+	***********************************************************/
+
+package game;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+public final class ReplayPlayer {
+
+	private ReplayPlayer(){
+	}
+	
+	
+	public static void main(String[] args) throws IOException {
+		if(args.length == 4 && args[0].equals("seek")) {
+			ReplayPlayer.seek(ReplayArchive.open(Paths.get(args[1])), Integer.parseInt(args[2]), Integer.parseInt(args[3]));
+			return;
+		}
+		
+		boolean failed = false;
+		
+		for(String name: args) {
+			Path file = Paths.get(name);
+			
+			try {
+				if(name.endsWith(".cupa")) {
+					ReplayArchive archive = ReplayArchive.open(file);
+					
+					for(int i = 0; i < archive.size(); i++) {
+						failed |= !ReplayPlayer.check(name + "#" + i, archive.getReplay(i));
+					}
+				}else {
+					failed |= !ReplayPlayer.check(name, Replay.read(file));
+				}
+			}catch(IOException e) {
+				System.out.println(name + ": could not be read: " + e.getMessage());
+				failed = true;
+			}
+		}
+		
+		if(failed) {
+			System.exit(1);
+		}
+	}
+	
+	
+	//method that plays a whole replay, prints how it ended and returns whether it ended like the recorded game
+	private static boolean check(String name, Replay replay) {
+		long start = System.nanoTime();
+		GameWorld world = replay.seek(0);
+		boolean matches = replay.play(world);
+		long time = System.nanoTime() - start;
+		
+		System.out.println(name + ": seed " + replay.getSeed() + ", " + replay.getTicks() + " ticks"
+				+ ", score " + world.getCupid().getScore() + " (recorded " + replay.getScore() + ")"
+				+ ", strength " + world.getCupid().getStrength() + " (recorded " + replay.getStrength() + ")"
+				+ ", " + TimeUnit.NANOSECONDS.toMicros(time) / 1000.0 + " ms"
+				+ (matches ? ", OK" : ", MISMATCH"));
+		return matches;
+	}
+	
+	
+	//method that prints the state of a session at the given second
+	private static void seek(ReplayArchive archive, int session, int second) {
+		long start = System.nanoTime();
+		Replay replay = archive.getReplay(session);
+		GameWorld world = replay.seek(second * replay.getTickRate());
+		long time = System.nanoTime() - start;
+		
+		Cupid cupid = world.getCupid();
+		System.out.println("session " + session + " at " + second + " s (game time " + world.getRuntime() + " s)"
+				+ ": cupid at " + cupid.getX() + "," + cupid.getY()
+				+ ", strength " + cupid.getStrength() + ", score " + cupid.getScore()
+				+ ", " + world.getHumans().size() + " humans, " + world.getPowerUps().size() + " power-ups"
+				+ (world.hasBoss() ? ", boss" : "") + (world.isOver() ? ", game over" : "")
+				+ ", " + TimeUnit.NANOSECONDS.toMicros(time) / 1000.0 + " ms");
+	}
+}
@@ -0,0 +1,205 @@
+	/***********************************************************	*
+	* This class keeps the events of the game (spawn waves and the
+	* end of power-up effects) ordered by the time they are due.
+	*
+	* An event is only a number, given by the GameWorld, and the
+	* time (in nanoseconds) it is due. The events are kept in a
+	* binary heap stored in a long array and an int array, so the
+	* next event due is always at the front: the world only looks
+	* at the events that are due on a tick, not at every timer of
+	* the game. Events that are due at the same time come out in
+	* the order they were scheduled.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-17 13:10
+	***********************************************************/
+
+package game;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+class Scheduler {
+	private long[] deadlines;					//time each event is due
+	private long[] orders;						//number of each event in the order it was scheduled (breaks ties between equal deadlines)
+	private int[] events;
+	private int count;							//number of events scheduled
+	private long scheduled;						//number of events scheduled so far
+	private long due;							//time the last event returned by poll was due
+	
+	//Class constants
+	final static int NONE = -1;					//returned by poll when no event is due
+	private final static int INITIAL_CAPACITY = 16;
+	
+	
+	Scheduler(){
+		this.deadlines = new long[Scheduler.INITIAL_CAPACITY];
+		this.orders = new long[Scheduler.INITIAL_CAPACITY];
+		this.events = new int[Scheduler.INITIAL_CAPACITY];
+	}
+	
+	
+	//method that schedules an event to be due at the given time
+	void schedule(long deadline, int event) {
+		if(this.count == this.events.length) {
+			this.deadlines = Arrays.copyOf(this.deadlines, this.count * 2);
+			this.orders = Arrays.copyOf(this.orders, this.count * 2);
+			this.events = Arrays.copyOf(this.events, this.count * 2);
+		}
+		
+		int i = this.count++;
+		this.set(i, deadline, this.scheduled++, event);
+		this.siftUp(i);
+	}
+	
+	
+	//method that removes and returns the next event that is due at the given time
+	//returns NONE if no event is due
+	int poll(long now) {
+		if(this.count == 0 || this.deadlines[0] > now) {
+			return Scheduler.NONE;
+		}
+		
+		int event = this.events[0];
+		this.due = this.deadlines[0];
+		this.removeAt(0);
+		return event;
+	}
+	
+	
+	//method that removes every scheduled event of the given kind (e.g. when a power-up is collected again before its effect wears off)
+	//the other events are shifted down in one pass and the heap is rebuilt
+	void cancel(int event) {
+		int kept = 0;
+		
+		for(int i = 0; i < this.count; i++) {
+			if(this.events[i] != event) {
+				this.set(kept++, this.deadlines[i], this.orders[i], this.events[i]);
+			}
+		}
+		
+		if(kept != this.count) {
+			this.count = kept;
+			
+			for(int i = this.count / 2 - 1; i >= 0; i--) {
+				this.siftDown(i);
+			}
+		}
+	}
+	
+	
+	//method that removes all the events
+	void clear() {
+		this.count = 0;
+	}
+	
+	
+	//method that removes the event at the index, moving the last event into its place
+	private void removeAt(int i) {
+		int last = --this.count;
+		
+		if(i != last) {
+			this.set(i, this.deadlines[last], this.orders[last], this.events[last]);
+			this.siftDown(i);
+		}
+	}
+	
+	
+	//method that moves the event at the index up the heap until its parent is due before it
+	private void siftUp(int i) {
+		while(i > 0) {
+			int parent = (i - 1) / 2;
+			
+			if(!this.before(i, parent)) {
+				break;
+			}
+			this.swap(i, parent);
+			i = parent;
+		}
+	}
+	
+	
+	//method that moves the event at the index down the heap until it is due before its children
+	private void siftDown(int i) {
+		while(true) {
+			int child = 2 * i + 1;
+			
+			if(child >= this.count) {
+				break;
+			}
+			if(child + 1 < this.count && this.before(child + 1, child)) {
+				child++;
+			}
+			if(!this.before(child, i)) {
+				break;
+			}
+			this.swap(i, child);
+			i = child;
+		}
+	}
+	
+	
+	//method that checks if the event at index a is due before the event at index b
+	private boolean before(int a, int b) {
+		if(this.deadlines[a] != this.deadlines[b]) {
+			return this.deadlines[a] < this.deadlines[b];
+		}
+		return this.orders[a] < this.orders[b];
+	}
+	
+	
+	private void swap(int a, int b) {
+		long deadline = this.deadlines[a];
+		long order = this.orders[a];
+		int event = this.events[a];
+		
+		this.set(a, this.deadlines[b], this.orders[b], this.events[b]);
+		this.set(b, deadline, order, event);
+	}
+	
+	
+	private void set(int i, long deadline, long order, int event) {
+		this.deadlines[i] = deadline;
+		this.orders[i] = order;
+		this.events[i] = event;
+	}
+	
+	
+	//method that writes the events into a keyframe, in the order of the heap (so they are read back in the same order)
+	void writeState(ByteBuffer out) {
+		out.putInt(this.count).putLong(this.scheduled).putLong(this.due);
+		
+		for(int i = 0; i < this.count; i++) {
+			out.putLong(this.deadlines[i]).putLong(this.orders[i]).putInt(this.events[i]);
+		}
+	}
+	
+	
+	//method that replaces the events with the ones written by writeState
+	void readState(ByteBuffer in) {
+		this.count = in.getInt();
+		this.scheduled = in.getLong();
+		this.due = in.getLong();
+		
+		if(this.count > this.events.length) {
+			this.deadlines = Arrays.copyOf(this.deadlines, this.count);
+			this.orders = Arrays.copyOf(this.orders, this.count);
+			this.events = Arrays.copyOf(this.events, this.count);
+		}
+		
+		for(int i = 0; i < this.count; i++) {
+			this.set(i, in.getLong(), in.getLong(), in.getInt());
+		}
+	}
+	
+	
+	//getters
+	int size() {
+		return this.count;
+	}
+	
+	//method that returns the time the last event returned by poll was due (repeating events are scheduled from it, so they do not drift)
+	long getDue() {
+		return this.due;
+	}
+}
@@ -0,0 +1,309 @@
+	/***********************************************************	*
+	* This class runs the GameWorld on a thread of its own, so the
+	* ticks of the game and the drawing of the screen can run at
+	* the same time on different cores: a slow tick no longer
+	* delays the drawing of a frame, and a slow frame no longer
+	* delays the ticks (or the keys).
+	*
+	* The thread steps the world at its fixed tick rate, copies it
+	* into a WorldSnapshot after the ticks that were due, and
+	* publishes the snapshot through the SnapshotExchange that the
+	* GameTimer draws from.
+	*
+	* Threading: once the game is started, the world (and every
+	* sprite in it) is only read and written by this thread, so
+	* none of it needs a lock. The JavaFX thread only talks to it
+	* through four things:
+	* 	- the SnapshotExchange, to take the latest snapshot to draw
+	* 	- the keys held down, a volatile bitmask only written by
+	* 	  the JavaFX thread and read at the start of every tick
+	* 	- a CommandQueue, to send the keys pressed, so a key
+	* 	  pressed and released between two ticks is not missed
+	* 	- the paused/stopped flags, to pause, resume and stop it
+	* A release only changes the bitmask, so it cannot be lost
+	* even if the queue is full: at worst a quick tap is missed.
+	*
+	* The keys of every tick can be recorded into a Replay (saved
+	* to a file and/or appended to a ReplayArchive when the game is
+	* over), or taken from a Replay instead of the keyboard to
+	* watch a recorded game again. The thread is a daemon, so it
+	* does not keep the application running; while it writes the
+	* replay, a shutdown hook makes the application wait for it
+	* when it exits (window closed or exit button), so the file or
+	* the archive is never left half written.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-18 10:40
+	***********************************************************/
+
+package game;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.locks.LockSupport;
+
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+
+class Simulation implements Runnable {
+	private GameWorld world;
+	private SnapshotExchange snapshots;
+	private FrameProfiler profiler;
+	private Thread thread;
+	
+	private CommandQueue input;						//keys pressed on the JavaFX thread, not applied yet (bits KEY_UP to KEY_FIRE of GameWorld)
+	private volatile int heldKeys;					//keys held down (same bits), only written by the JavaFX thread
+	
+	private Replay replay;							//replay the keys are recorded into or played from (null if none)
+	private Path replayFile;						//file the recorded replay is saved to (null if none)
+	private Path archiveFile;						//archive the recorded replay is appended to (null if none)
+	private boolean replaying;						//whether the keys come from the replay instead of the keyboard
+	
+	private volatile boolean paused;
+	private volatile boolean stopped;
+	
+	//Class constants
+	private final static int MAX_CATCH_UP_TICKS = 5;		//constant for the most ticks simulated at once (the game slows down after a stall instead of catching up all at once)
+	private final static int INPUT_CAPACITY = 256;			//constant for the most key presses waiting for a tick
+	
+	
+	Simulation(GameWorld world, SnapshotExchange snapshots, FrameProfiler profiler){
+		this.world = world;
+		this.snapshots = snapshots;
+		this.profiler = profiler;
+		
+		this.input = new CommandQueue(Simulation.INPUT_CAPACITY);
+		
+		this.thread = new Thread(this, "game-simulation");
+		this.thread.setDaemon(true);
+	}
+	
+	
+	//method that records the keys of every tick into the replay, and saves it to the file and/or appends it to the archive
+	//when the game is over (either can be null), called before start
+	void record(Replay replay, Path file, Path archive) {
+		this.replay = replay;
+		this.replayFile = file;
+		this.archiveFile = archive;
+		this.replaying = false;
+	}
+	
+	
+	//method that plays the keys of the replay instead of the keys pressed (the world must come from replay.newWorld())
+	//called before start
+	void playBack(Replay replay) {
+		this.replay = replay;
+		this.replayFile = null;
+		this.archiveFile = null;
+		this.replaying = true;
+	}
+	
+	
+	//method that starts the game at the given time and starts the thread
+	void start(long time) {
+		this.world.start(time);
+		this.thread.start();
+	}
+	
+	
+	//method run by the simulation thread, steps the world once for every tick that has passed until the game is over
+	public void run() {
+		long tickTime = this.world.getTickTime();
+		long next = System.nanoTime() + tickTime;		//time the next tick is due
+		
+		while(!this.stopped && !this.world.isOver()) {
+			if(this.paused) {
+				LockSupport.park(this);
+				next = System.nanoTime() + tickTime;	//the game clock does not count the time it is paused
+				continue;
+			}
+			
+			long now = System.nanoTime();
+			if(now < next) {
+				LockSupport.parkNanos(this, next - now);
+				continue;
+			}
+			
+			this.profiler.begin(FrameProfiler.SIMULATE);
+			int ticks = 0;
+			
+			while(now >= next && !this.world.isOver()) {
+				if(ticks == Simulation.MAX_CATCH_UP_TICKS) {
+					next = now + tickTime;			//drop the time that could not be caught up
+					break;
+				}
+				
+				this.applyKeys();
+				this.world.step();
+				next += tickTime;
+				ticks++;
+			}
+			
+			this.snapshots.getBack().capture(this.world, next - tickTime);
+			this.snapshots.publish();
+			this.profiler.end(FrameProfiler.SIMULATE);
+		}
+		
+		if(this.replay != null && this.world.isOver()) {
+			this.endReplay();
+		}
+	}
+	
+	
+	//method that pauses the game (the thread waits until resume)
+	void pause() {
+		this.paused = true;
+	}
+	
+	
+	//method that continues the game from where it left off
+	void resume() {
+		this.paused = false;
+		LockSupport.unpark(this.thread);
+	}
+	
+	
+	//method that ends the thread (game over or back to the main menu)
+	void stop() {
+		this.stopped = true;
+		LockSupport.unpark(this.thread);
+	}
+	
+	
+	//method called on the JavaFX thread when a key is pressed or released, the key is applied on the next tick
+	//only the keys of the game are used (auto-repeated presses are sent too, they do not change the keys held)
+	void keyEvent(KeyEvent e) {
+		int key = Simulation.keyBit(e.getCode());
+		
+		if(key == 0 || this.replaying) {
+			return;
+		}
+		
+		if(e.getEventType() == KeyEvent.KEY_PRESSED) {
+			if(GameLog.DEBUG) GameLog.log(GameLog.KEY_PRESSED, e.getCode());
+			
+			this.heldKeys |= key;
+			this.input.offer(key);						//dropped if 256 presses are already waiting (the key is still held)
+		}else {
+			this.heldKeys &= ~key;
+		}
+	}
+	
+	
+	//method that gives the world the keys of the next tick: the keys held down now, and the keys pressed since the last tick
+	//so a key pressed and released between two ticks still counts for one tick, and a quick tap is not lost
+	private void applyKeys() {
+		if(this.replaying) {
+			int keys = this.replay.nextKeys();
+			this.world.setKeys(keys == Replay.END ? 0 : keys);
+			return;
+		}
+		
+		int pressed = 0;
+		int key;
+		
+		while((key = this.input.poll()) != CommandQueue.EMPTY) {
+			pressed |= key;
+		}
+		
+		int keys = this.heldKeys | pressed;
+		if(this.replay != null) {
+			this.replay.record(this.world, keys);				//before the keys are set, a keyframe holds the world between two ticks
+		}
+		this.world.setKeys(keys);
+	}
+	
+	
+	//method called on the simulation thread when the game is over, saves the recorded replay or checks the one played
+	private void endReplay() {
+		if(this.replaying) {
+			if(GameLog.INFO) GameLog.log(GameLog.REPLAY_CHECKED, this.replay.matches(this.world) ? 1 : 0);
+			return;
+		}
+		
+		this.replay.finish(this.world);
+		
+		Thread hook = new Thread(new Runnable() {
+			public void run() {
+				Simulation.this.awaitEnd();				//the application exits once the replay is written
+			}
+		}, "replay-save");
+		try {
+			Runtime.getRuntime().addShutdownHook(hook);
+		}catch(IllegalStateException e) {
+			hook = null;								//the application is already exiting, the replay is written if there is time
+		}
+		
+		try {
+			this.saveReplay();
+		}finally {
+			if(hook != null) {
+				try {
+					Runtime.getRuntime().removeShutdownHook(hook);
+				}catch(IllegalStateException e) {
+					//the application is already exiting, the hook is waiting for this thread to end
+				}
+			}
+		}
+	}
+	
+	
+	//method that writes the recorded replay to the file and/or the archive
+	private void saveReplay() {
+		if(this.replayFile != null) {
+			try {
+				this.replay.write(this.replayFile);
+				if(GameLog.INFO) GameLog.log(GameLog.REPLAY_SAVED, this.replayFile);
+			}catch(IOException e) {
+				if(GameLog.INFO) GameLog.log(GameLog.REPLAY_NOT_SAVED, this.replayFile + ": " + e.getMessage());
+			}
+		}
+		
+		if(this.archiveFile != null) {
+			try {
+				ReplayArchive.append(this.archiveFile, this.replay);
+				if(GameLog.INFO) GameLog.log(GameLog.REPLAY_SAVED, this.archiveFile);
+			}catch(IOException e) {
+				if(GameLog.INFO) GameLog.log(GameLog.REPLAY_NOT_SAVED, this.archiveFile + ": " + e.getMessage());
+			}
+		}
+	}
+	
+	
+	//method that waits until the simulation thread has ended (returns at once if it has not been started)
+	//used before the next game is started (after stop), and by the shutdown hook while the replay is written
+	void awaitEnd() {
+		boolean interrupted = false;
+		
+		while(this.thread.isAlive()) {
+			try {
+				this.thread.join();
+			}catch(InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		
+		if(interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	
+	//method that returns the bit of a key of the game (0 for the other keys)
+	private static int keyBit(KeyCode code) {
+		switch(code) {
+			case UP:
+				return GameWorld.KEY_UP;
+			case DOWN:
+				return GameWorld.KEY_DOWN;
+			case LEFT:
+				return GameWorld.KEY_LEFT;
+			case RIGHT:
+				return GameWorld.KEY_RIGHT;
+			case SPACE:
+				return GameWorld.KEY_FIRE;
+			default:
+				return 0;
+		}
+	}
+}
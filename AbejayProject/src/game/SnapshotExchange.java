@@ -0,0 +1,67 @@
+	/***********************************************************	*
+	* This class hands the WorldSnapshots over from the Simulation
+	* thread to the JavaFX thread. It is the only place the two
+	* threads meet.
+	*
+	* There are three snapshots: the one the simulation is filling
+	* (back), the one the screen is drawing (front), and a spare
+	* one in between that holds the latest published snapshot. The
+	* simulation publishes by swapping its back snapshot with the
+	* spare, and the screen takes the latest one by swapping its
+	* front snapshot with the spare. Each swap is one atomic
+	* operation, so neither thread ever waits for the other, and a
+	* snapshot is never written while it is being drawn.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-18 10:25
+	***********************************************************/
+
+package game;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SnapshotExchange {
+	private final WorldSnapshot[] snapshots;
+	private int back;								//index of the snapshot written by the simulation (only used by the simulation thread)
+	private int front;								//index of the snapshot drawn by the screen (only used by the JavaFX thread)
+	private final AtomicInteger spare;				//index of the spare snapshot, plus FRESH if it was published after the screen last took one
+	
+	//Class constants
+	private final static int FRESH = 4;
+	private final static int INDEX = 3;				//mask of the index in spare
+	
+	
+	//the first snapshot is shown until the simulation publishes one, so the world is copied into it
+	SnapshotExchange(GameWorld world, long time){
+		this.snapshots = new WorldSnapshot[] {new WorldSnapshot(), new WorldSnapshot(), new WorldSnapshot()};
+		this.back = 0;
+		this.spare = new AtomicInteger(1);
+		this.front = 2;
+		
+		this.snapshots[this.front].capture(world, time);
+	}
+	
+	
+	//method that returns the snapshot the simulation writes the next tick into (simulation thread)
+	WorldSnapshot getBack() {
+		return this.snapshots[this.back];
+	}
+	
+	
+	//method that publishes the back snapshot as the latest one (simulation thread)
+	void publish() {
+		int old = this.spare.getAndSet(this.back | SnapshotExchange.FRESH);
+		this.back = old & SnapshotExchange.INDEX;
+	}
+	
+	
+	//method that returns the latest published snapshot (JavaFX thread)
+	//the snapshot can be read until the next call
+	WorldSnapshot latest() {
+		if((this.spare.get() & SnapshotExchange.FRESH) != 0) {
+			int old = this.spare.getAndSet(this.front);
+			this.front = old & SnapshotExchange.INDEX;
+		}
+		return this.snapshots[this.front];
+	}
+}
@@ -9,25 +9,20 @@
 
 package game;
 
-import javafx.scene.image.Image;
-
 class Snowflake extends PowerUp {
 	//Class constants
 	final static int TIME_FREEZE_DURATION = 3;					//snowflake makes the time is frozen for 3 seconds
 	
-	final static Image SNOWFLAKE_IMAGE = new Image("images/snowflake.png", PowerUp.POWER_UP_IMAGE_WIDTH, PowerUp.POWER_UP_IMAGE_WIDTH, true, true);
-	final static Image BW_SNOWFLAKE = new Image("images/bw-snowflake.png", PowerUp.POWER_UP_IMAGE_WIDTH, PowerUp.POWER_UP_IMAGE_WIDTH, true, true);
-	
 	Snowflake(int x, int y){
-		super(x,y,Snowflake.SNOWFLAKE_IMAGE);
+		super(x,y);
 	}
 	
 	@Override
-	void affectCupid(Cupid cupid, GameTimer gametimer) {
-		System.out.println("CUPID FROZE the time!");
-		gametimer.setHasSnowflake(true);							//set hasSnowflake attribute to true
-		gametimer.setSnowflakeTime(System.nanoTime());				//sets the snowflakeTime attribute to the time it is collected
-		gametimer.setCollectedSnowflakes();							//increments collectedSnowflakes attribute
+	void affectCupid(Cupid cupid, GameWorld world) {
+		if(GameLog.INFO) GameLog.log(GameLog.SNOWFLAKE);
+		world.setHasSnowflake(true);							//set hasSnowflake attribute to true
+		world.setSnowflakeTime(world.getCurrentTime());				//sets the snowflakeTime attribute to the time it is collected
+		world.setCollectedSnowflakes();							//increments collectedSnowflakes attribute
 		cupid.setFrozeTime(true);									//set frozeTime attribute to true
 		this.setVisible(false);										//since it is collected, set visibility to false
 		
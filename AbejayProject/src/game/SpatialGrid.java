@@ -0,0 +1,199 @@
+	/***********************************************************	*
+	* This class divides the game window into square cells and
+	* remembers which sprites overlap each cell.
+	*
+	* The GameWorld fills the grid with the humans (and another
+	* one with the power-ups) once every tick, then asks it which
+	* sprites are near an arrow or Cupid. Only those sprites are
+	* checked with collidesWith, so the cost of the collision
+	* checks depends on how crowded the area around a sprite is
+	* rather than on the number of sprites in the whole game.
+	*
+	* The grid keeps its cells in int arrays that are reused from
+	* tick to tick, so filling and asking the grid does not create
+	* new objects once the arrays are big enough.
+	*
+	* The sprites of each cell are kept in the order they were
+	* added, so a query finds them in that order by merging the
+	* few cells the sprite overlaps (always taking the smallest
+	* item at the front of one of them), instead of sorting what
+	* it found. Its cost grows with the number of sprites in those
+	* cells, even when hundreds of humans are packed in a cell.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-17 10:05
+	***********************************************************/
+
+package game;
+
+import java.util.Arrays;
+
+class SpatialGrid<T extends Sprite> {
+	private final int cellSize;
+	private final int columns;
+	private final int rows;
+	
+	private final int[] cellHead;					//first node of each cell (-1 when the cell is empty)
+	private final int[] cellTail;					//last node of each cell (new nodes are added after it)
+	private int[] nodeItem;							//item stored in each node
+	private int[] nodeNext;							//next node of the same cell (-1 at the end of the cell)
+	private int nodeCount;
+	
+	private Object[] items;							//sprites in the order they were added
+	private int itemCount;
+	
+	private int[] itemQuery;						//number of the last query that found each item (so an item in many cells is found once)
+	private int queryCount;
+	
+	private int[] found;							//items found by the last query, in the order they were added
+	private int foundCount;
+	
+	private int[] cursors;							//next node of each cell of the query that is not merged yet (-1 when the cell is done)
+	
+	//Class constants
+	final static int DEFAULT_CELL_SIZE = 100;		//constant for the cell size, about the size of a human
+	private final static int INITIAL_CAPACITY = 64;
+	
+	
+	SpatialGrid(int width, int height, int cellSize){
+		this.cellSize = cellSize;
+		this.columns = (width + cellSize - 1) / cellSize;
+		this.rows = (height + cellSize - 1) / cellSize;
+		
+		this.cellHead = new int[this.columns * this.rows];
+		this.cellTail = new int[this.columns * this.rows];
+		this.cursors = new int[this.columns * this.rows];
+		this.nodeItem = new int[SpatialGrid.INITIAL_CAPACITY];
+		this.nodeNext = new int[SpatialGrid.INITIAL_CAPACITY];
+		this.items = new Object[SpatialGrid.INITIAL_CAPACITY];
+		this.itemQuery = new int[SpatialGrid.INITIAL_CAPACITY];
+		this.found = new int[SpatialGrid.INITIAL_CAPACITY];
+		
+		this.clear();
+	}
+	
+	
+	//method that removes all the sprites from the grid
+	void clear() {
+		Arrays.fill(this.cellHead, -1);
+		Arrays.fill(this.items, 0, this.itemCount, null);
+		this.nodeCount = 0;
+		this.itemCount = 0;
+	}
+	
+	
+	//method that adds a sprite to every cell its bounds overlap
+	void insert(T sprite) {
+		if(this.itemCount == this.items.length) {
+			this.items = Arrays.copyOf(this.items, this.itemCount * 2);
+			this.itemQuery = Arrays.copyOf(this.itemQuery, this.itemCount * 2);
+			this.found = Arrays.copyOf(this.found, this.itemCount * 2);
+		}
+		
+		int item = this.itemCount++;
+		this.items[item] = sprite;
+		this.itemQuery[item] = 0;
+		
+		int minColumn = this.column(sprite.x);
+		int maxColumn = this.column(sprite.x + sprite.width);
+		int minRow = this.row(sprite.y);
+		int maxRow = this.row(sprite.y + sprite.height);
+		
+		for(int r = minRow; r <= maxRow; r++) {
+			for(int c = minColumn; c <= maxColumn; c++) {
+				this.addNode(r * this.columns + c, item);
+			}
+		}
+	}
+	
+	
+	//method that finds the sprites in the cells the given sprite overlaps, in the order they were added
+	//(so collisions are handled in the same order as the lists)
+	//returns the number of sprites found, which are read with getFound (they may or may not collide with the sprite)
+	int query(Sprite sprite) {
+		this.queryCount++;
+		this.foundCount = 0;
+		
+		int minColumn = this.column(sprite.x);
+		int maxColumn = this.column(sprite.x + sprite.width);
+		int minRow = this.row(sprite.y);
+		int maxRow = this.row(sprite.y + sprite.height);
+		
+		int cells = 0;
+		for(int r = minRow; r <= maxRow; r++) {
+			for(int c = minColumn; c <= maxColumn; c++) {
+				int head = this.cellHead[r * this.columns + c];
+				
+				if(head != -1) {
+					this.cursors[cells++] = head;
+				}
+			}
+		}
+		
+		while(true) {
+			int next = -1;								//cursor of the cell with the smallest item at its front
+			
+			for(int i = 0; i < cells; i++) {
+				int node = this.cursors[i];
+				
+				if(node != -1 && (next == -1 || this.nodeItem[node] < this.nodeItem[this.cursors[next]])) {
+					next = i;
+				}
+			}
+			
+			if(next == -1) {
+				break;
+			}
+			
+			int node = this.cursors[next];
+			int item = this.nodeItem[node];
+			this.cursors[next] = this.nodeNext[node];
+			
+			if(this.itemQuery[item] != this.queryCount) {		//skip items already found in another cell
+				this.itemQuery[item] = this.queryCount;
+				this.found[this.foundCount++] = item;
+			}
+		}
+		
+		return this.foundCount;
+	}
+	
+	
+	//method that returns a sprite found by the last query
+	@SuppressWarnings("unchecked")
+	T getFound(int index) {
+		return (T) this.items[this.found[index]];
+	}
+	
+	
+	//method that adds a node for the item at the end of the cell
+	private void addNode(int cell, int item) {
+		if(this.nodeCount == this.nodeItem.length) {
+			this.nodeItem = Arrays.copyOf(this.nodeItem, this.nodeCount * 2);
+			this.nodeNext = Arrays.copyOf(this.nodeNext, this.nodeCount * 2);
+		}
+		
+		int node = this.nodeCount++;
+		this.nodeItem[node] = item;
+		this.nodeNext[node] = -1;
+		
+		if(this.cellHead[cell] == -1) {
+			this.cellHead[cell] = node;
+		}else {
+			this.nodeNext[this.cellTail[cell]] = node;
+		}
+		this.cellTail[cell] = node;
+	}
+	
+	
+	//methods that return the column/row of a position, sprites outside the window are put in the nearest cell
+	private int column(double xPos) {
+		int c = (int) xPos / this.cellSize;
+		return Math.max(0, Math.min(this.columns - 1, c));
+	}
+	
+	private int row(double yPos) {
+		int r = (int) yPos / this.cellSize;
+		return Math.max(0, Math.min(this.rows - 1, r));
+	}
+}
@@ -1,57 +1,110 @@
 package game;
 
-import javafx.geometry.Rectangle2D;
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 
 public class Sprite {
-	protected Image img;
 	protected int x, y, dx, dy;
+	protected int prevX, prevY;						//position at the start of the current tick (used to interpolate the drawn position)
 	protected boolean visible;
 	protected double width;
 	protected double height;
+	protected int hitboxInsetX, hitboxInsetY;			//transparent padding of the image left out of the hitbox (on each side)
 	
 	public Sprite(int xPos, int yPos){
 		this.x = xPos;
 		this.y = yPos;
+		this.prevX = xPos;
+		this.prevY = yPos;
 		this.visible = true;
 	}
 	
-	//method to set the object's image
-	protected void loadImage(Image img){
-		try{
-			this.img = img;
-	        this.setSize();
-		} catch(Exception e){}
+	//method that remembers the current position as the position at the start of the tick
+	void savePosition(){
+		this.prevX = this.x;
+		this.prevY = this.y;
 	}
 	
-	//method to set the image to the image view node
-	void render(GraphicsContext gc){
-		gc.drawImage(this.img, this.x, this.y);
-        
-    }
+	//methods that return the position to draw the sprite at, alpha (0 to 1) of the way from the previous tick to the current tick
+	int getRenderX(double alpha){
+		return (int) Math.round(this.prevX + (this.x - this.prevX) * alpha);
+	}
+	
+	int getRenderY(double alpha){
+		return (int) Math.round(this.prevY + (this.y - this.prevY) * alpha);
+	}
 	
 	//method to set the object's width and height properties
-	private void setSize(){
-		this.width = this.img.getWidth();
-	    this.height = this.img.getHeight();
+	//the size is the size of the image the sprite is drawn with, so sprites can be simulated without loading images
+	protected void setSize(double width, double height){
+		this.width = width;
+	    this.height = height;
+	}
+	
+	//method to shrink the hitbox of the sprite by insetX on the left and right and insetY on the top and bottom
+	protected void setHitbox(int insetX, int insetY){
+		this.hitboxInsetX = insetX;
+		this.hitboxInsetY = insetY;
 	}
-	//method that will check for collision of two sprites
+	
+	//method that will check for collision of the hitboxes of two sprites
 	public boolean collidesWith(Sprite rect2)	{
-		Rectangle2D rectangle1 = this.getBounds();
-		Rectangle2D rectangle2 = rect2.getBounds();
-
-		return rectangle1.intersects(rectangle2);
+		return Sprite.intersects(this.x + this.hitboxInsetX, this.y + this.hitboxInsetY,
+				this.x + this.width - this.hitboxInsetX, this.y + this.height - this.hitboxInsetY,
+				rect2.x + rect2.hitboxInsetX, rect2.y + rect2.hitboxInsetY,
+				rect2.x + rect2.width - rect2.hitboxInsetX, rect2.y + rect2.height - rect2.hitboxInsetY);
 	}
-	//method that will return the bounds of an image
-	private Rectangle2D getBounds(){
-		return new Rectangle2D(this.x, this.y, this.width, this.height);
+	
+	//method that checks if two rectangles (given by their min and max corners) overlap
+	//same check as Rectangle2D.intersects, but on plain numbers so nothing is created per check
+	static boolean intersects(double minX1, double minY1, double maxX1, double maxY1,
+			double minX2, double minY2, double maxX2, double maxY2){
+		return maxX2 > minX1 && maxY2 > minY1 && minX2 < maxX1 && minY2 < maxY1;
 	}
 	
-	//method to return the image
-	Image getImage(){
-		return this.img;
+	//method that removes the sprites that are no longer visible from the list, in one pass
+	//the visible sprites are shifted down over the removed ones (keeping their order) and the leftover end of the list is cut off once
+	static <T extends Sprite> void removeInvisible(ArrayList<T> list){
+		int live = 0;
+		
+		for(int i = 0; i < list.size(); i++) {
+			T sprite = list.get(i);
+			
+			if(sprite.isVisible()) {
+				if(live != i) {
+					list.set(live, sprite);
+				}
+				live++;
+			}
+		}
+		
+		list.subList(live, list.size()).clear();
 	}
+	
+	//method that writes the position, size and hitbox of the sprite into a keyframe (see ReplayArchive)
+	void writeState(ByteBuffer out){
+		out.putInt(this.x).putInt(this.y).putInt(this.dx).putInt(this.dy);
+		out.putInt(this.prevX).putInt(this.prevY);
+		out.put(this.visible ? (byte) 1 : 0);
+		out.putDouble(this.width).putDouble(this.height);
+		out.putInt(this.hitboxInsetX).putInt(this.hitboxInsetY);
+	}
+	
+	//method that reads back what writeState wrote
+	void readState(ByteBuffer in){
+		this.x = in.getInt();
+		this.y = in.getInt();
+		this.dx = in.getInt();
+		this.dy = in.getInt();
+		this.prevX = in.getInt();
+		this.prevY = in.getInt();
+		this.visible = in.get() != 0;
+		this.width = in.getDouble();
+		this.height = in.getDouble();
+		this.hitboxInsetX = in.getInt();
+		this.hitboxInsetY = in.getInt();
+	}
+	
 	//getters
 	public int getX() {
     	return this.x;
@@ -61,6 +114,14 @@ public class Sprite {
     	return this.y;
 	}
 	
+	int getPrevX() {
+		return this.prevX;
+	}
+	
+	int getPrevY() {
+		return this.prevY;
+	}
+	
 	public boolean getVisible(){
 		return visible;	
 	}
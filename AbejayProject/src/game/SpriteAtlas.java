@@ -0,0 +1,77 @@
+	/***********************************************************	*
+	* This class packs the images of the sprites into one big
+	* image (the atlas), so the whole game is drawn from a single
+	* texture.
+	*
+	* Images are added when the game loads. Each one is copied
+	* into the next free spot of the atlas, row by row (a row is
+	* as tall as the tallest image in it), and the AtlasRegion
+	* returned tells where it is. The sprites are then drawn with
+	* the part of the atlas given by their region, through a
+	* SpriteBatch.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-17 16:20
+	***********************************************************/
+
+package game;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+
+class SpriteAtlas {
+	private WritableImage image;
+	
+	private int rowX;								//x position of the next image in the current row
+	private int rowY;								//y position of the current row
+	private int rowHeight;							//height of the tallest image in the current row
+	
+	//Class constants
+	private final static int PADDING = 2;			//space between the images (so an image does not bleed into the next one when scaled)
+	
+	
+	SpriteAtlas(int width, int height){
+		this.image = new WritableImage(width, height);
+	}
+	
+	
+	//method that copies an image into the atlas and returns the region it was put in
+	//an image that could not be loaded takes no space and has no region (null), so it is not drawn
+	AtlasRegion add(Image img) {
+		if(AssetManager.isMissing(img)) {
+			return null;
+		}
+		
+		int width = (int) Math.ceil(img.getWidth());
+		int height = (int) Math.ceil(img.getHeight());
+		
+		if(this.rowX + width > this.image.getWidth()) {			//the image does not fit in the current row, start a new row
+			this.rowX = 0;
+			this.rowY += this.rowHeight + SpriteAtlas.PADDING;
+			this.rowHeight = 0;
+		}
+		
+		if(width > this.image.getWidth() || this.rowY + height > this.image.getHeight()) {
+			throw new IllegalStateException("Sprite atlas is full, cannot add a " + width + "x" + height + " image");
+		}
+		
+		PixelReader reader = img.getPixelReader();
+		int[] pixels = new int[width * height];
+		reader.getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+		this.image.getPixelWriter().setPixels(this.rowX, this.rowY, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+		
+		AtlasRegion region = new AtlasRegion(this, this.rowX, this.rowY, width, height);
+		
+		this.rowX += width + SpriteAtlas.PADDING;
+		this.rowHeight = Math.max(this.rowHeight, height);
+		return region;
+	}
+	
+	
+	//getter
+	Image getImage() {
+		return this.image;
+	}
+}
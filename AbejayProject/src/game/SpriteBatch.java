@@ -0,0 +1,179 @@
+	/***********************************************************	*
+	* This class collects the sprites to draw in a frame and draws
+	* them together, as parts of a few big images (textures).
+	*
+	* The GameTimer adds every sprite of the frame to the batch
+	* (a sprite of the SpriteAtlas, or a part of another image like
+	* a digit of the DigitAtlas), then flushes it. The flush draws
+	* them in the order they were added, so a sprite added later
+	* is drawn over the ones added before it, like when each sprite
+	* was drawn on its own: a human's health is drawn over that
+	* human, and under a human drawn after it. The texture only
+	* changes where the image of a draw is not the image of the
+	* draw before it, so a run of sprites (all the arrows, all the
+	* crowd) is drawn from one texture without a change.
+	*
+	* The draws are kept in arrays that are reused every frame.
+	* The draws of the previous frame are kept too, so the batch
+	* can tell which parts of the screen have changed (used by the
+	* dirty-rectangle mode of the GameTimer).
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-17 16:35
+	***********************************************************/
+
+package game;
+
+import java.util.Arrays;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+class SpriteBatch {
+	private Draws current;							//draws of this frame
+	private Draws previous;							//draws of the previous frame
+	
+	//Class constants
+	private final static int INITIAL_CAPACITY = 256;
+	
+	
+	SpriteBatch(){
+		this.current = new Draws();
+		this.previous = new Draws();
+	}
+	
+	
+	//method that adds a sprite of the atlas, drawn at x,y (nothing if its image could not be loaded, see SpriteAtlas.add)
+	void draw(AtlasRegion region, double xPos, double yPos) {
+		if(region == null) {
+			return;
+		}
+		this.draw(region.getAtlas().getImage(), region.getX(), region.getY(), region.getWidth(), region.getHeight(), xPos, yPos);
+	}
+	
+	
+	//method that adds a part of an image (sx, sy, w, h), drawn at x,y in the same size
+	void draw(Image img, double sx, double sy, double w, double h, double xPos, double yPos) {
+		this.current.add(img, sx, sy, w, h, xPos, yPos);
+	}
+	
+	
+	//method that draws everything added since the last flush, in the order it was added
+	void flush(GraphicsContext gc) {
+		this.flush(gc, null);
+	}
+	
+	
+	//method that draws the sprites added since the last flush that are in the dirty rectangles (all of them if dirty is null)
+	void flush(GraphicsContext gc, DirtyRects dirty) {
+		Draws d = this.current;
+		
+		for(int i = 0; i < d.count; i++) {
+			if(dirty == null || dirty.intersects(d.x[i], d.y[i], d.width[i], d.height[i])) {
+				gc.drawImage(d.images[i], d.sourceX[i], d.sourceY[i], d.width[i], d.height[i],
+						d.x[i], d.y[i], d.width[i], d.height[i]);
+			}
+		}
+		
+		this.endFrame();
+	}
+	
+	
+	//method that ends the frame without drawing anything (nothing on the screen has changed)
+	void skip() {
+		this.endFrame();
+	}
+	
+	
+	//method that adds to dirty the bounds of every sprite that is not drawn the same as in the previous frame
+	//both where it was and where it is now are added, so the old sprite is erased and the new one is drawn
+	void addChanges(DirtyRects dirty) {
+		Draws now = this.current;
+		Draws before = this.previous;
+		int count = Math.max(now.count, before.count);
+		
+		for(int i = 0; i < count && !dirty.isFull(); i++) {
+			if(i < now.count && i < before.count && now.sameAs(i, before)) {
+				continue;
+			}
+			
+			if(i < before.count) {
+				dirty.add(before.x[i], before.y[i], before.width[i], before.height[i]);
+			}
+			if(i < now.count) {
+				dirty.add(now.x[i], now.y[i], now.width[i], now.height[i]);
+			}
+		}
+	}
+	
+	
+	//method that keeps the draws of the frame as the previous frame and empties the batch for the next frame
+	private void endFrame() {
+		Draws d = this.previous;
+		this.previous = this.current;
+		this.current = d;
+		this.current.count = 0;
+	}
+	
+	
+	//the draws of one frame: the image and the part of it drawn (sourceX, sourceY, width, height) at x,y
+	private static class Draws {
+		private Image[] images;
+		private double[] sourceX;
+		private double[] sourceY;
+		private double[] width;
+		private double[] height;
+		private double[] x;
+		private double[] y;
+		private int count;
+		
+		
+		Draws(){
+			this.images = new Image[SpriteBatch.INITIAL_CAPACITY];
+			this.sourceX = new double[SpriteBatch.INITIAL_CAPACITY];
+			this.sourceY = new double[SpriteBatch.INITIAL_CAPACITY];
+			this.width = new double[SpriteBatch.INITIAL_CAPACITY];
+			this.height = new double[SpriteBatch.INITIAL_CAPACITY];
+			this.x = new double[SpriteBatch.INITIAL_CAPACITY];
+			this.y = new double[SpriteBatch.INITIAL_CAPACITY];
+		}
+		
+		
+		void add(Image img, double sx, double sy, double w, double h, double xPos, double yPos) {
+			if(this.count == this.images.length) {
+				this.grow();
+			}
+			
+			int i = this.count++;
+			this.images[i] = img;
+			this.sourceX[i] = sx;
+			this.sourceY[i] = sy;
+			this.width[i] = w;
+			this.height[i] = h;
+			this.x[i] = xPos;
+			this.y[i] = yPos;
+		}
+		
+		
+		//method that checks if the draw at the index is the same as the draw at the same index of other
+		boolean sameAs(int i, Draws other) {
+			return this.images[i] == other.images[i] && this.x[i] == other.x[i] && this.y[i] == other.y[i]
+					&& this.sourceX[i] == other.sourceX[i] && this.sourceY[i] == other.sourceY[i]
+					&& this.width[i] == other.width[i] && this.height[i] == other.height[i];
+		}
+		
+		
+		//method that doubles the size of the arrays
+		private void grow() {
+			int capacity = this.images.length * 2;
+			
+			this.images = Arrays.copyOf(this.images, capacity);
+			this.sourceX = Arrays.copyOf(this.sourceX, capacity);
+			this.sourceY = Arrays.copyOf(this.sourceY, capacity);
+			this.width = Arrays.copyOf(this.width, capacity);
+			this.height = Arrays.copyOf(this.height, capacity);
+			this.x = Arrays.copyOf(this.x, capacity);
+			this.y = Arrays.copyOf(this.y, capacity);
+		}
+	}
+}
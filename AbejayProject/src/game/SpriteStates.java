@@ -0,0 +1,98 @@
+	/***********************************************************	*
+	* This class holds what the screen needs to know about a group
+	* of sprites (e.g. the humans) at one tick: where each sprite
+	* was at the previous tick and where it is now, a value shown
+	* over it (e.g. the health of a human) and which image it is
+	* drawn with.
+	*
+	* It is part of a WorldSnapshot. The arrays are reused from one
+	* tick to the next and only grow, so copying the sprites into
+	* it does not create objects.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-18 10:05
+	***********************************************************/
+
+package game;
+
+import java.util.Arrays;
+
+class SpriteStates {
+	private int[] prevX;
+	private int[] prevY;
+	private int[] x;
+	private int[] y;
+	private int[] value;
+	private int[] kind;								//image the sprite is drawn with (constants of WorldSnapshot)
+	private int count;
+	
+	
+	SpriteStates(int capacity){
+		capacity = Math.max(capacity, 1);
+		
+		this.prevX = new int[capacity];
+		this.prevY = new int[capacity];
+		this.x = new int[capacity];
+		this.y = new int[capacity];
+		this.value = new int[capacity];
+		this.kind = new int[capacity];
+	}
+	
+	
+	//method that removes all the sprites
+	void clear() {
+		this.count = 0;
+	}
+	
+	
+	//method that adds a sprite
+	void add(int prevXPos, int prevYPos, int xPos, int yPos, int spriteValue, int spriteKind) {
+		if(this.count == this.x.length) {
+			this.grow();
+		}
+		
+		int i = this.count++;
+		this.prevX[i] = prevXPos;
+		this.prevY[i] = prevYPos;
+		this.x[i] = xPos;
+		this.y[i] = yPos;
+		this.value[i] = spriteValue;
+		this.kind[i] = spriteKind;
+	}
+	
+	
+	//method that doubles the size of the arrays
+	private void grow() {
+		int capacity = this.x.length * 2;
+		
+		this.prevX = Arrays.copyOf(this.prevX, capacity);
+		this.prevY = Arrays.copyOf(this.prevY, capacity);
+		this.x = Arrays.copyOf(this.x, capacity);
+		this.y = Arrays.copyOf(this.y, capacity);
+		this.value = Arrays.copyOf(this.value, capacity);
+		this.kind = Arrays.copyOf(this.kind, capacity);
+	}
+	
+	
+	//getters
+	int size() {
+		return this.count;
+	}
+	
+	//methods that return the position to draw a sprite at, alpha (0 to 1) of the way from the previous tick to the current tick
+	int getRenderX(int i, double alpha) {
+		return (int) Math.round(this.prevX[i] + (this.x[i] - this.prevX[i]) * alpha);
+	}
+	
+	int getRenderY(int i, double alpha) {
+		return (int) Math.round(this.prevY[i] + (this.y[i] - this.prevY[i]) * alpha);
+	}
+	
+	int getValue(int i) {
+		return this.value[i];
+	}
+	
+	int getKind(int i) {
+		return this.kind[i];
+	}
+}
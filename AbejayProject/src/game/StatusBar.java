@@ -0,0 +1,231 @@
+	/***********************************************************	*
+	* This class draws the game status bar: the time, the score,
+	* cupid's strength and the power-ups.
+	*
+	* Drawing the bar is mostly drawing text, which is slow, and
+	* what the bar shows only changes a few times a second. So the
+	* bar is drawn on its own canvas (the HUD layer of GameLayers),
+	* and only when the time (in seconds), the score, the strength
+	* or the power-ups have changed since the last frame. In the
+	* other frames the canvas is not touched, so JavaFX does not
+	* redraw it.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-17 15:30
+	***********************************************************/
+
+package game;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+class StatusBar {
+	private WorldSnapshot snapshot;					//snapshot of the world the bar shows
+	
+	private GraphicsContext gc;						//graphics context of the canvas the bar is drawn on
+	
+	//what the bar shows, to check if it has changed
+	private int runtime;
+	private int score;
+	private int strength;
+	private int powerUps;							//flags of the running power-ups and the boss
+	private int collected;							//number of power-ups collected
+	private boolean drawn;							//whether the bar shows the current values (false before it is first drawn and while "Paused" is shown)
+	
+	//Class constants
+	private final static int HAS_WINGS = 1;
+	private final static int HAS_DOLPHIN = 2;
+	private final static int HAS_AUTOPILOT = 4;
+	private final static int HAS_SNOWFLAKE = 8;
+	private final static int HAS_BOSS = 16;
+	
+	
+	StatusBar(Canvas canvas){
+		this.gc = canvas.getGraphicsContext2D();
+	}
+	
+	
+	//method that redraws the bar if what it shows has changed since the last snapshot
+	void update(WorldSnapshot snapshot) {
+		this.snapshot = snapshot;
+		
+		int runtime = this.snapshot.getRuntime();			//the time shown will stop while the time is frozen (effect of snowflake powerup)
+		int score = this.snapshot.getScore();
+		int strength = this.snapshot.getStrength();
+		int powerUps = this.powerUpFlags();
+		int collected = this.snapshot.getCollectedHearts() + this.snapshot.getCollectedWings() + this.snapshot.getCollectedDolphins()
+				+ this.snapshot.getCollectedAutopilots() + this.snapshot.getCollectedSnowflakes();
+		
+		if(!this.drawn || runtime != this.runtime || score != this.score || strength != this.strength
+				|| powerUps != this.powerUps || collected != this.collected) {
+			this.runtime = runtime;
+			this.score = score;
+			this.strength = strength;
+			this.powerUps = powerUps;
+			this.collected = collected;
+			this.drawn = true;
+			
+			this.draw();
+		}
+	}
+	
+	
+	//method that shows "Paused" on the bar (the bar is redrawn by the first update after the game is played again)
+	void showPaused() {
+		this.gc.setFont(GameTimer.DEFAULT_FONT);
+		this.gc.setFill(Color.BLACK);
+		this.gc.fillText("Paused", 65, 18);
+		
+		this.drawn = false;
+	}
+	
+	
+	//method that returns the flags of the running power-ups and the boss
+	private int powerUpFlags() {
+		int flags = 0;
+		
+		if(this.snapshot.hasWings()) flags |= StatusBar.HAS_WINGS;
+		if(this.snapshot.hasDolphin()) flags |= StatusBar.HAS_DOLPHIN;
+		if(this.snapshot.hasAutopilot()) flags |= StatusBar.HAS_AUTOPILOT;
+		if(this.snapshot.hasSnowflake()) flags |= StatusBar.HAS_SNOWFLAKE;
+		if(this.snapshot.hasBoss()) flags |= StatusBar.HAS_BOSS;
+		
+		return flags;
+	}
+	
+	
+	//method that draws/displays the game status/data on the bar
+	private void draw() {
+		this.gc.setFill(Color.STEELBLUE);
+		this.gc.fillRect(0, 0, GameStage.WINDOW_WIDTH, GameTimer.GAME_STATUS_BAR_HEIGHT);
+		
+		this.drawSpecialStats();
+		this.drawElapsedTime();
+		this.drawCurrentScore();
+		this.drawCurrentStrength();
+		this.drawCollectedPowerUps();		
+	}
+	
+	
+	//method to draw the elapsed time in the game
+	private void drawElapsedTime() {
+		int runtime = this.runtime;
+		
+		if(this.snapshot.hasSnowflake()) {
+			this.gc.drawImage(GameStage.FROZEN_TIMER_ICON, 305, 0);
+		}else {
+			this.gc.drawImage(GameStage.TIMER_ICON, 305, 0);
+		}
+		
+		this.gc.setFont(GameTimer.DEFAULT_FONT);
+		this.gc.setFill(Color.BLACK);
+		this.gc.fillText("Time: ", 335, 18);
+		
+		if(runtime < 10) {
+			this.gc.fillText("0:0"+ runtime, 380, 18);
+		}else if (runtime < 60 && runtime >= 10){
+			this.gc.fillText("0:"+ runtime, 380, 18);
+		}else if (runtime == 60){
+			this.gc.fillText("1:00", 380, 18);
+		}
+	}
+	
+	
+	//method to draw the current score of cupid
+	private void drawCurrentScore() {
+		this.gc.drawImage(GameStage.SCORE_ICON, 445, 0);
+		
+		this.gc.setFont(GameTimer.DEFAULT_FONT);
+		this.gc.setFill(Color.BLACK);
+		this.gc.fillText("Score: ", 475, 18);
+		this.gc.fillText(String.valueOf(this.snapshot.getScore()), 525, 18);
+	}
+	
+	
+	//method to draw cupid's current strength
+	private void drawCurrentStrength() {
+		if(this.snapshot.hasWings()) {
+			this.gc.drawImage(GameStage.IMMORTAL_ICON, 570, 0);						//strength icon will change when the Cupid is immortal
+		}else {
+			this.gc.drawImage(GameStage.STRENGTH_ICON, 570, 0);
+		}
+		
+		this.gc.setFont(GameTimer.DEFAULT_FONT);
+		this.gc.setFill(Color.BLACK);
+		this.gc.fillText("Strength: ", 600, 18);
+		this.gc.fillText(String.valueOf(this.snapshot.getStrength()), 665, 18);
+	}
+	
+	
+	//method to draw the running power-up cupid has
+	private void drawSpecialStats() {
+	
+		if(this.snapshot.hasBoss()) {													//text will be shown when there is a boss in the game
+			this.gc.setFont(GameTimer.DEFAULT_FONT);
+			this.gc.setFill(Color.BLACK);
+			this.gc.fillText("Frenzy", 125, 18);
+		}
+		
+		
+		//Images of power-ups will be drawn in the game
+		//if the power-up is active, the power-up image will be colored
+		//otherwise it will draw a black and white image
+		if(!this.snapshot.hasWings()) {
+			this.gc.drawImage(GameStage.BW_WINGS, 190, 0, 25, 25);
+		}else {
+			this.gc.drawImage(GameStage.WINGS_IMAGE, 190, 0, 25, 25);
+		}
+		
+		if(!this.snapshot.hasDolphin()) {
+			this.gc.drawImage(GameStage.BW_DOLPHIN, 215, 0, 25, 25);
+		}else {
+			this.gc.drawImage(GameStage.DOLPHIN_IMAGE, 215, 0, 25, 25);
+		}
+		
+		if(!this.snapshot.hasAutopilot()) {
+			this.gc.drawImage(GameStage.BW_AUTOPILOT, 240, 0, 25, 25);
+		}else {
+			this.gc.drawImage(GameStage.AUTOPILOT_IMAGE, 240, 0, 25, 25);
+		}
+		
+		if(!this.snapshot.hasSnowflake()) {
+			this.gc.drawImage(GameStage.BW_SNOWFLAKE, 265, 0, 25, 25);
+		}else {
+			this.gc.drawImage(GameStage.SNOWFLAKE_IMAGE, 265, 0, 25, 25);
+		}
+	
+	}
+	
+	
+	//method to draw all the power-ups cupid has collected in the game
+	private void drawCollectedPowerUps() {
+		int x = 720;
+		
+		for(int i = 0; i < this.snapshot.getCollectedHearts(); i++) {
+			this.gc.drawImage(GameStage.HEART_IMAGE, x, 0, 25, 25);
+			x += 10;
+		}
+		
+		for(int i = 0; i < this.snapshot.getCollectedWings(); i++) {
+			this.gc.drawImage(GameStage.WINGS_IMAGE, x, 0, 25, 25);
+			x += 10;
+		}
+		
+		for(int i = 0; i < this.snapshot.getCollectedDolphins(); i++) {
+			this.gc.drawImage(GameStage.DOLPHIN_IMAGE, x, 0, 25, 25);
+			x += 10;
+		}
+		
+		for(int i = 0; i < this.snapshot.getCollectedAutopilots(); i++) {
+			this.gc.drawImage(GameStage.AUTOPILOT_IMAGE, x, 0, 25, 25);
+			x += 10;
+		}
+		
+		for(int i = 0; i < this.snapshot.getCollectedSnowflakes(); i++) {
+			this.gc.drawImage(GameStage.SNOWFLAKE_IMAGE, x, 0, 25, 25);
+			x += 10;
+		}
+	
+	}
+}
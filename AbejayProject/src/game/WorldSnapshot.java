@@ -0,0 +1,246 @@
+	/***********************************************************	*
+	* This class is a copy of everything the screen shows about
+	* the GameWorld at one tick: the positions of the sprites, the
+	* health and strength drawn over them, and what the status bar
+	* shows.
+	*
+	* The Simulation thread copies the world into a snapshot after
+	* it steps it, and publishes it through a SnapshotExchange. The
+	* GameTimer (on the JavaFX thread) only draws from the latest
+	* snapshot and never reads the world, so the two threads never
+	* touch the same objects. A snapshot is reused for later ticks
+	* once the GameTimer is done with it.
+	*
+	* @author Rhys Allen Abejay
+	* @created_date 2026-10-18 10:10
+	***********************************************************/
+
+package game;
+
+import java.util.ArrayList;
+
+class WorldSnapshot {
+	private long time;								//time (System.nanoTime) the tick of the snapshot was due
+	private long tickTime;
+	
+	private SpriteStates cupid;						//value: strength, kind: CUPID or GLOWING_CUPID
+	private SpriteStates arrows;
+	private SpriteStates humans;					//value: health, kind: MALE_HUMAN to FEMALE_BOSS
+	private SpriteStates crowd;						//kind: MALE_HUMAN or FEMALE_HUMAN
+	private SpriteStates powerUps;					//kind: HEART to SNOWFLAKE
+	
+	//what the status bar shows
+	private int runtime;
+	private int score;
+	private int strength;
+	private boolean hasWings;
+	private boolean hasDolphin;
+	private boolean hasAutopilot;
+	private boolean hasSnowflake;
+	private boolean hasBoss;
+	private int collectedHearts;
+	private int collectedWings;
+	private int collectedDolphins;
+	private int collectedAutopilots;
+	private int collectedSnowflakes;
+	
+	private boolean over;
+	private boolean cupidAlive;
+	
+	//Kinds of sprites (the image a sprite is drawn with)
+	final static int CUPID = 0;
+	final static int GLOWING_CUPID = 1;
+	
+	final static int MALE_HUMAN = 0;
+	final static int FEMALE_HUMAN = 1;
+	final static int MALE_BOSS = 2;
+	final static int FEMALE_BOSS = 3;
+	
+	final static int HEART = 0;
+	final static int WINGS = 1;
+	final static int DOLPHIN = 2;
+	final static int AUTOPILOT = 3;
+	final static int SNOWFLAKE = 4;
+	
+	
+	WorldSnapshot(){
+		this.cupid = new SpriteStates(1);
+		this.arrows = new SpriteStates(ArrowPool.MAX_ARROWS);
+		this.humans = new SpriteStates(32);
+		this.crowd = new SpriteStates(1);
+		this.powerUps = new SpriteStates(4);
+	}
+	
+	
+	//method that copies the world into the snapshot, time being the time the tick was due
+	void capture(GameWorld world, long tickDue) {
+		this.time = tickDue;
+		this.tickTime = world.getTickTime();
+		
+		Cupid myCupid = world.getCupid();
+		this.cupid.clear();
+		this.cupid.add(myCupid.getPrevX(), myCupid.getPrevY(), myCupid.getX(), myCupid.getY(), myCupid.getStrength(),
+				myCupid.isImmortal() ? WorldSnapshot.GLOWING_CUPID : WorldSnapshot.CUPID);
+		
+		ArrowPool pool = myCupid.getArrows();
+		this.arrows.clear();
+		for(int i = 0; i < pool.size(); i++) {
+			Arrow a = pool.get(i);
+			this.arrows.add(a.getPrevX(), a.getPrevY(), a.getX(), a.getY(), 0, 0);
+		}
+		
+		this.captureHumans(world.getHumans());
+		this.captureCrowd(world.getCrowd());
+		this.capturePowerUps(world.getPowerUps());
+		
+		this.runtime = world.getRuntime();
+		this.score = myCupid.getScore();
+		this.strength = myCupid.getStrength();
+		this.hasWings = world.hasWings();
+		this.hasDolphin = world.hasDolphin();
+		this.hasAutopilot = world.hasAutopilot();
+		this.hasSnowflake = world.hasSnowflake();
+		this.hasBoss = world.hasBoss();
+		this.collectedHearts = world.getCollectedHearts();
+		this.collectedWings = world.getCollectedWings();
+		this.collectedDolphins = world.getCollectedDolphins();
+		this.collectedAutopilots = world.getCollectedAutopilots();
+		this.collectedSnowflakes = world.getCollectedSnowflakes();
+		
+		this.over = world.isOver();
+		this.cupidAlive = myCupid.isAlive();
+	}
+	
+	
+	private void captureHumans(ArrayList<Human> list) {
+		this.humans.clear();
+		
+		for(Human h: list) {
+			int kind = h.isFemale() ? WorldSnapshot.FEMALE_HUMAN : WorldSnapshot.MALE_HUMAN;
+			if(h.getType() == Human.BOSS) {
+				kind += WorldSnapshot.MALE_BOSS;
+			}
+			
+			this.humans.add(h.getPrevX(), h.getPrevY(), h.getX(), h.getY(), h.getHealth(), kind);
+		}
+	}
+	
+	
+	private void captureCrowd(CrowdStore store) {
+		this.crowd.clear();
+		
+		for(int i = 0; i < store.size(); i++) {
+			int y = store.getY(i);
+			this.crowd.add(store.getPrevX(i), y, store.getX(i), y, store.getHealth(i),
+					store.isFemale(i) ? WorldSnapshot.FEMALE_HUMAN : WorldSnapshot.MALE_HUMAN);
+		}
+	}
+	
+	
+	private void capturePowerUps(ArrayList<PowerUp> list) {
+		this.powerUps.clear();
+		
+		for(PowerUp p: list) {
+			this.powerUps.add(p.getX(), p.getY(), p.getX(), p.getY(), 0, WorldSnapshot.powerUpKind(p));
+		}
+	}
+	
+	
+	//method that returns the kind (HEART to SNOWFLAKE) of a power-up
+	static int powerUpKind(PowerUp p) {
+		if(p instanceof Heart) return WorldSnapshot.HEART;
+		if(p instanceof Wings) return WorldSnapshot.WINGS;
+		if(p instanceof Dolphin) return WorldSnapshot.DOLPHIN;
+		if(p instanceof Autopilot) return WorldSnapshot.AUTOPILOT;
+		return WorldSnapshot.SNOWFLAKE;
+	}
+	
+	
+	//method that returns how far (0 to 1) the screen is between the previous tick and the tick of the snapshot at the given time
+	double getAlpha(long now) {
+		double alpha = (double) (now - this.time) / this.tickTime;
+		return Math.max(0, Math.min(1, alpha));
+	}
+	
+	
+	//getters
+	SpriteStates getCupid() {
+		return this.cupid;
+	}
+	
+	SpriteStates getArrows() {
+		return this.arrows;
+	}
+	
+	SpriteStates getHumans() {
+		return this.humans;
+	}
+	
+	SpriteStates getCrowd() {
+		return this.crowd;
+	}
+	
+	SpriteStates getPowerUps() {
+		return this.powerUps;
+	}
+	
+	int getRuntime() {
+		return this.runtime;
+	}
+	
+	int getScore() {
+		return this.score;
+	}
+	
+	int getStrength() {
+		return this.strength;
+	}
+	
+	boolean hasWings() {
+		return this.hasWings;
+	}
+	
+	boolean hasDolphin() {
+		return this.hasDolphin;
+	}
+	
+	boolean hasAutopilot() {
+		return this.hasAutopilot;
+	}
+	
+	boolean hasSnowflake() {
+		return this.hasSnowflake;
+	}
+	
+	boolean hasBoss() {
+		return this.hasBoss;
+	}
+	
+	int getCollectedHearts() {
+		return this.collectedHearts;
+	}
+	
+	int getCollectedWings() {
+		return this.collectedWings;
+	}
+	
+	int getCollectedDolphins() {
+		return this.collectedDolphins;
+	}
+	
+	int getCollectedAutopilots() {
+		return this.collectedAutopilots;
+	}
+	
+	int getCollectedSnowflakes() {
+		return this.collectedSnowflakes;
+	}
+	
+	boolean isOver() {
+		return this.over;
+	}
+	
+	boolean isCupidAlive() {
+		return this.cupidAlive;
+	}
+}
@@ -1,5 +1,6 @@
 package user;
 
+import game.AssetManager;
 import game.GameStage;
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -11,8 +12,12 @@ public class Main extends Application {
 	}
 
 	public void start(Stage stage){
-		GameStage theGameStage = new GameStage();
-		theGameStage.setStage(stage);
+		AssetManager.preload(stage, new Runnable() {			//the main menu is shown once the images are loaded
+			public void run() {
+				GameStage theGameStage = new GameStage();
+				theGameStage.setStage(stage);
+			}
+		});
 	}
 
 }